@@ -0,0 +1,63 @@
+// src/main/java/com/example/travelagencyapi/config/ConnectionPoolConfig.java
+package com.example.travelagencyapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Dimensiona o pool Hikari pelo número de núcleos da máquina, em vez de um valor fixo no arquivo de configuração:
+ * conexões = núcleos * app.datasource.pool.core-multiplier + app.datasource.pool.effective-spindles.
+ * O banco não executa mais consultas em paralelo do que tem núcleos; conexões além disso só aumentam a disputa
+ * e a latência. O pool fica com tamanho fixo (minimum-idle igual ao máximo).
+ *
+ * Ativado com app.datasource.pool.size-from-cores=true (perfil "prod").
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.pool.size-from-cores", havingValue = "true")
+public class ConnectionPoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolConfig.class);
+
+    @Bean
+    static BeanPostProcessor connectionPoolSizer(@Value("${app.datasource.pool.core-multiplier:2}") int coreMultiplier,
+                                                 @Value("${app.datasource.pool.effective-spindles:1}") int effectiveSpindles) {
+        int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors() * coreMultiplier + effectiveSpindles);
+        return new PoolSizer(poolSize);
+    }
+
+    /**
+     * Ajusta o pool depois que as propriedades spring.datasource.hikari.* foram aplicadas e antes da primeira conexão.
+     * Executa antes de outros pós-processadores que possam envolver o DataSource (ex: proxies).
+     */
+    static final class PoolSizer implements BeanPostProcessor, Ordered {
+        private final int poolSize;
+
+        PoolSizer(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource dataSource) {
+                dataSource.setMaximumPoolSize(poolSize);
+                dataSource.setMinimumIdle(poolSize);
+                log.info("Pool de conexões {} dimensionado para {} conexões ({} núcleos).",
+                        dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName, poolSize,
+                        Runtime.getRuntime().availableProcessors());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
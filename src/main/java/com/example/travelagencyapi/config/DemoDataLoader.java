@@ -0,0 +1,85 @@
+// src/main/java/com/example/travelagencyapi/config/DemoDataLoader.java
+package com.example.travelagencyapi.config;
+
+import com.example.travelagencyapi.model.security.Role;
+import com.example.travelagencyapi.model.security.User;
+import com.example.travelagencyapi.repository.security.RoleRepository;
+import com.example.travelagencyapi.repository.security.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Cria os usuários de demonstração ("admin"/"adminpass" e "user"/"userpass") e seus papéis.
+ * Ativo apenas no perfil "dev" (o padrão quando nenhum perfil é informado); em produção nada é criado.
+ *
+ * A criação roda em uma thread própria depois que a aplicação fica pronta, para não atrasar a prontidão
+ * (readiness) com consultas e codificações BCrypt. Se os usuários já existem, apenas duas consultas são feitas.
+ */
+@Component
+@Profile("dev")
+public class DemoDataLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(DemoDataLoader.class);
+
+    private static final String[][] DEMO_USERS = { // Usuário, senha e papel
+            {"admin", "adminpass", "ROLE_ADMIN"},
+            {"user", "userpass", "ROLE_USER"}
+    };
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Autowired
+    public DemoDataLoader(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Inicia a criação dos dados de demonstração em segundo plano, assim que a aplicação fica pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread thread = new Thread(this::load, "demo-data");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void load() {
+        try {
+            for (String[] demoUser : DEMO_USERS) {
+                createUserIfMissing(demoUser[0], demoUser[1], demoUser[2]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao criar os usuários de demonstração: {}", e.getMessage());
+        }
+    }
+
+    private void createUserIfMissing(String username, String password, String roleName) {
+        if (userRepository.findByUsername(username).isPresent()) {
+            log.info("Usuário '{}' já existe.", username);
+            return;
+        }
+        // Papel e BCrypt apenas quando o usuário ainda não existe
+        Role role = roleRepository.findByName(roleName)
+                .orElseGet(() -> roleRepository.save(new Role(roleName)));
+
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode(password)); // Codifica a senha
+        user.setRoles(new HashSet<>(Collections.singletonList(role)));
+        userRepository.save(user);
+        log.info("Usuário '{}' criado com sucesso!", username);
+    }
+}
@@ -0,0 +1,28 @@
+// src/main/java/com/example/travelagencyapi/config/MetricsConfig.java
+package com.example.travelagencyapi.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das métricas da aplicação (Micrometer), expostas em /actuator/prometheus.
+ *
+ * Além das métricas automáticas do Spring Boot (http.server.requests por endpoint,
+ * spring.data.repository.invocations por método de repositório e hikaricp.* do pool de conexões),
+ * a aplicação registra timers de autenticação, de DestinationService e da escrita adiada de avaliações.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Habilita a anotação @Timed em beans do Spring (ex: DestinationService).
+     * @param meterRegistry O registro de métricas.
+     * @return O aspecto que cria um timer por método anotado.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+// src/main/java/com/example/travelagencyapi/config/RateLimitConfig.java
+package com.example.travelagencyapi.config;
+
+import com.example.travelagencyapi.filter.CredentialRateLimitFilter;
+import com.example.travelagencyapi.filter.LoadSheddingFilter;
+import com.example.travelagencyapi.filter.RateLimitFilter;
+import com.example.travelagencyapi.service.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Proteção contra clientes abusivos e sobrecarga em /api/**:
+ * limitação de taxa por cliente e rota (app.rate-limit.*, responde 429), também por IP para tentativas de credenciais
+ * antes do Spring Security, e descarte de carga por concorrência
+ * adaptativa (app.load-shedding.*, responde 503). Ambos respondem com Retry-After e ficam desativados
+ * se a respectiva propriedade enabled não for true.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(properties, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1); // Depois do Spring Security (usuário conhecido)
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+    public FilterRegistrationBean<CredentialRateLimitFilter> credentialRateLimitFilter(RateLimitProperties properties,
+                                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<CredentialRateLimitFilter> registration =
+                new FilterRegistrationBean<>(new CredentialRateLimitFilter(properties, meterRegistry));
+        // Antes do Spring Security (onde o HTTP Basic verifica a senha) e do descarte de carga:
+        // tentativas recusadas não ocupam vagas de concorrência
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.load-shedding.enabled", havingValue = "true")
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            @Value("${app.load-shedding.latency-slo-ms:500}") long latencySloMillis,
+            @Value("${app.load-shedding.initial-limit:200}") int initialLimit,
+            @Value("${app.load-shedding.min-limit:10}") int minLimit,
+            @Value("${app.load-shedding.max-limit:1000}") int maxLimit,
+            @Value("${app.load-shedding.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencySloMillis);
+        FilterRegistrationBean<LoadSheddingFilter> registration =
+                new FilterRegistrationBean<>(new LoadSheddingFilter(limiter, retryAfterSeconds, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1); // Antes do Spring Security
+        return registration;
+    }
+}
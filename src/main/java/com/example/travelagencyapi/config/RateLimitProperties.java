@@ -0,0 +1,141 @@
+// src/main/java/com/example/travelagencyapi/config/RateLimitProperties.java
+package com.example.travelagencyapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limites de taxa por cliente (app.rate-limit.*), aplicados por RateLimitFilter e, para tentativas de credenciais,
+ * por CredentialRateLimitFilter.
+ * Cada rota em routes tem seu próprio limite; as demais requisições em /api/** usam o limite padrão.
+ * Um limite com requests-per-second menor ou igual a 0 desativa a limitação da rota.
+ */
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+    private double requestsPerSecond = 50; // Limite padrão, por cliente
+    private int burst = 100; // Requisições aceitas de uma vez antes de o limite valer
+    private long maxClients = 100_000; // Baldes mantidos em memória (os menos usados são descartados)
+    private List<Route> routes = new ArrayList<>();
+    private Credentials credentials = new Credentials();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public long getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(long maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    public Credentials getCredentials() {
+        return credentials;
+    }
+
+    public void setCredentials(Credentials credentials) {
+        this.credentials = credentials;
+    }
+
+    /**
+     * Limite por IP das tentativas de credenciais (HTTP Basic e /api/auth/**), aplicado antes do Spring Security
+     * por CredentialRateLimitFilter. Com requests-per-second menor ou igual a 0, essas tentativas não são limitadas.
+     */
+    public static class Credentials {
+
+        private double requestsPerSecond = 5;
+        private int burst = 20;
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * Limite de uma rota específica. A primeira rota cujo padrão (e método, se informado) corresponder é usada.
+     */
+    public static class Route {
+
+        private String pattern; // Padrão Ant do caminho (ex: /api/destinations/search)
+        private String method; // Método HTTP, ou vazio para todos
+        private double requestsPerSecond;
+        private int burst = 1;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+// src/main/java/com/example/travelagencyapi/config/ReadReplicaConfig.java
+package com.example.travelagencyapi.config;
+
+import com.example.travelagencyapi.filter.ReadYourWritesFilter;
+import com.example.travelagencyapi.repository.routing.ReadWriteRoutingDataSource;
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Separa leituras e escritas entre o banco principal e uma réplica de leitura.
+ * Ativado quando app.datasource.replica.url está definida; sem ela, o DataSource automático do Spring Boot é usado.
+ *
+ * O primário usa as propriedades spring.datasource.* (e spring.datasource.hikari.*); a réplica usa
+ * app.datasource.replica.* (usuário, senha e driver padrão iguais aos do primário) e app.datasource.replica.hikari.*.
+ * O DataSource exposto ao JPA, ao Flyway e ao JdbcTemplate é um LazyConnectionDataSourceProxy sobre o roteamento
+ * (ver ReadWriteRoutingDataSource): migrações e escritas vão sempre ao primário.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(password.isEmpty() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true); // Defesa extra: a réplica nunca recebe escritas
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2); // Depois do Spring Security e da limitação de taxa
+        return registration;
+    }
+}
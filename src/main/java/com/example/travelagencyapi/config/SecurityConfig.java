@@ -1,21 +1,49 @@
 // src/main/java/com/example/travelagencyapi/config/SecurityConfig.java
 package com.example.travelagencyapi.config;
 
+import com.example.travelagencyapi.filter.JwtAuthenticationFilter;
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.example.travelagencyapi.service.security.CachingAuthenticationProvider;
+import com.example.travelagencyapi.service.security.CalibratedBCryptPasswordEncoder;
+import com.example.travelagencyapi.service.security.JwtTokenService;
+import com.example.travelagencyapi.service.security.OffloadingPasswordEncoder;
+import com.example.travelagencyapi.service.security.PasswordHashingExecutor;
+import com.example.travelagencyapi.service.security.PasswordHashingRejectedException;
+import com.example.travelagencyapi.service.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher; // Importe para usar AntPathRequestMatcher
+import org.springframework.util.ClassUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Classe de configuração principal para o Spring Security.
@@ -26,28 +54,111 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher; // I
 @EnableMethodSecurity // Habilita a segurança baseada em anotações de método (ex: @PreAuthorize).
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    /**
+     * Aplica a hierarquia de papéis configurada ao AuthorityRegistry, antes de qualquer usuário ou token ser autenticado.
+     * @param roleHierarchy Pares "papel>papel implicado" separados por vírgula (ex: "ROLE_ADMIN>ROLE_USER"),
+     *                      ou vazio (padrão) para que cada usuário tenha apenas os papéis atribuídos a ele.
+     */
+    public SecurityConfig(@Value("${app.security.role-hierarchy:}") String roleHierarchy) {
+        AuthorityRegistry.configureHierarchy(roleHierarchy);
+    }
+
     /**
      * Define o codificador de senhas a ser utilizado.
-     * BCryptPasswordEncoder é recomendado para armazenar senhas de forma segura.
+     * Um DelegatingPasswordEncoder grava o algoritmo no prefixo do hash ("{bcrypt}...") e verifica qualquer algoritmo
+     * registrado; hashes antigos sem prefixo são tratados como BCrypt. O custo do BCrypt é calibrado na inicialização
+     * para levar cerca de app.security.password.target-ms por verificação nesta máquina (ou fixado em bcrypt-strength).
+     * Hashes com outro algoritmo são regravados no próximo login bem-sucedido (ver authenticationProvider), assim como
+     * hashes com outro custo: diferente do fixado, ou, com a calibração, fora de [min-strength, max-strength].
+     * Argon2 fica disponível apenas com o BouncyCastle no classpath.
+     * O tempo de cada codificação e verificação é medido no timer auth.password; ambas rodam no executor de hashing.
+     * @param algorithm O algoritmo das novas codificações ("bcrypt" ou "argon2").
+     * @param bcryptStrength O custo fixo do BCrypt, ou 0 para calibrar.
+     * @param targetMillis O tempo desejado por verificação, usado na calibração.
+     * @param minStrength O menor custo aceito na calibração (e sem regravar o hash).
+     * @param maxStrength O maior custo aceito na calibração (limita o custo de CPU do login; e sem regravar o hash).
+     * @param hashingExecutor O pool limitado onde as senhas são processadas.
+     * @param meterRegistry O registro de métricas.
      * @return Uma instância de PasswordEncoder.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${app.security.password.bcrypt-strength:0}") int bcryptStrength,
+                                           @Value("${app.security.password.target-ms:250}") long targetMillis,
+                                           @Value("${app.security.password.min-strength:10}") int minStrength,
+                                           @Value("${app.security.password.max-strength:14}") int maxStrength,
+                                           PasswordHashingExecutor hashingExecutor,
+                                           MeterRegistry meterRegistry) {
+        // Custo fixado: sem calibração (que mede o BCrypt na inicialização) e com hashes regravados para esse custo exato
+        int strength = bcryptStrength > 0 ? bcryptStrength
+                : CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(targetMillis), minStrength, maxStrength);
+        PasswordEncoder bcrypt = bcryptStrength > 0 ? new CalibratedBCryptPasswordEncoder(strength)
+                : new CalibratedBCryptPasswordEncoder(strength, minStrength, maxStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        if (ClassUtils.isPresent("org.bouncycastle.crypto.generators.Argon2BytesGenerator", null)) {
+            encoders.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+        String idForEncode = algorithm;
+        if (!encoders.containsKey(idForEncode)) {
+            log.warn("Algoritmo de senha '{}' indisponível; usando {}.", algorithm, BCRYPT);
+            idForEncode = BCRYPT;
+        }
+        log.info("Senhas codificadas com {} (custo do BCrypt: {}).", idForEncode, strength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // Hashes gravados antes do prefixo {id}
+        return new OffloadingPasswordEncoder(new TimedPasswordEncoder(delegating, meterRegistry), hashingExecutor);
+    }
+
+    /**
+     * Define o pool limitado que executa o hashing de senhas (registro, login e HTTP Basic), fora das threads de requisição.
+     * Assim uma rajada de logins não consome a CPU das demais requisições; com a fila cheia, o login recebe 429.
+     * @param threads O número de threads, ou 0 para uma por núcleo.
+     * @param queueCapacity Quantas codificações ou verificações podem aguardar na fila.
+     * @param retryAfterSeconds O valor do cabeçalho Retry-After quando uma tarefa é recusada.
+     * @param meterRegistry O registro de métricas (fila, espera e recusas).
+     * @return O executor de hashing de senhas.
+     */
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor(@Value("${app.security.password.hashing.threads:0}") int threads,
+                                                           @Value("${app.security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                                           @Value("${app.security.password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                                           MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingExecutor(poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     /**
      * Configura o provedor de autenticação que usará o UserDetailsService e o PasswordEncoder.
+     * O DaoAuthenticationProvider fica atrás de um cache de credenciais verificadas, para que o HTTP Basic
+     * não execute o BCrypt a cada requisição.
      * @param userDetailsService O serviço para carregar detalhes do usuário.
      * @param passwordEncoder O codificador de senhas.
-     * @return Uma instância de AuthenticationProvider.
+     * @param maximumSize O número máximo de usuários com credenciais mantidas em cache.
+     * @param ttlSeconds O tempo de vida, em segundos, de uma credencial em cache.
+     * @param meterRegistry O registro de métricas (tempo de autenticação e cache de credenciais).
+     * @return Uma instância de AuthenticationProvider com cache.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    public CachingAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                                                                @Value("${app.security.credential-cache.maximum-size:10000}") long maximumSize,
+                                                                @Value("${app.security.credential-cache.ttl-seconds:300}") long ttlSeconds,
+                                                                MeterRegistry meterRegistry) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService); // Define o serviço que carregará os usuários
         authenticationProvider.setPasswordEncoder(passwordEncoder); // Define o codificador de senhas
-        return authenticationProvider;
+        if (userDetailsService instanceof UserDetailsPasswordService passwordService) {
+            // Após um login bem-sucedido, regrava hashes de outro algoritmo ou custo (PasswordEncoder.upgradeEncoding)
+            authenticationProvider.setUserDetailsPasswordService(passwordService);
+        }
+        return new CachingAuthenticationProvider(authenticationProvider, maximumSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
     }
 
     /**
@@ -64,29 +175,63 @@ public class SecurityConfig {
     /**
      * Define a cadeia de filtros de segurança HTTP.
      * Configura as regras de autorização para diferentes URLs e desabilita o CSRF para APIs REST.
+     * Aceita tokens de acesso (Bearer) verificados localmente e, como alternativa, HTTP Basic.
      * @param http O objeto HttpSecurity para configurar a segurança.
+     * @param tokenService O serviço que verifica os tokens de acesso.
      * @return Uma instância de SecurityFilterChain.
      * @throws Exception Se ocorrer um erro durante a configuração.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenService tokenService) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // Desabilita CSRF para APIs RESTful (geralmente não é necessário)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Nenhuma sessão HTTP é criada
+            // Verifica o token Bearer antes do HTTP Basic; sem consulta ao banco nem BCrypt
+            .addFilterBefore(new JwtAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
             .authorizeHttpRequests(authorize -> authorize
+                // Despachos assíncronos (respostas em streaming) continuam uma requisição já autorizada
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Permite acesso público apenas ao endpoint de LOGIN
                 .requestMatchers(AntPathRequestMatcher.antMatcher("/api/auth/login")).permitAll()
+                // Verificação de saúde e coleta de métricas pelo Prometheus (os demais endpoints do Actuator não são expostos)
+                .requestMatchers(AntPathRequestMatcher.antMatcher("/actuator/health"),
+                        AntPathRequestMatcher.antMatcher("/actuator/prometheus")).permitAll()
                 // Restringe o endpoint de REGISTRO apenas para usuários com papel ADMIN
                 .requestMatchers(AntPathRequestMatcher.antMatcher("/api/auth/register")).hasRole("ADMIN")
                 // Permite acesso público a URLs designadas como públicas para destinos (se houver)
                 .requestMatchers(AntPathRequestMatcher.antMatcher("/api/destinations/public/**")).permitAll()
                 // Requer autenticação para todos os endpoints de destinos
                 .requestMatchers(AntPathRequestMatcher.antMatcher("/api/destinations/**")).authenticated()
+                // A API reativa de leitura segue a mesma regra
+                .requestMatchers(AntPathRequestMatcher.antMatcher("/api/reactive/destinations/**")).authenticated()
                 // Todas as outras requisições requerem autenticação
                 .anyRequest().authenticated()
             )
-            .httpBasic(); // Habilita autenticação HTTP Basic (para testes rápidos com Postman/cURL)
+            // Habilita autenticação HTTP Basic (para testes rápidos com Postman/cURL); 429 com o executor de hashing saturado
+            .httpBasic(basic -> basic.authenticationEntryPoint(basicAuthenticationEntryPoint()));
             // .formLogin(); // Opcional: para formulários de login baseados em navegador
 
         return http.build();
     }
+
+    /**
+     * Ponto de entrada do HTTP Basic: 401 com WWW-Authenticate, como o padrão, exceto quando a verificação da senha
+     * foi recusada pelo executor de hashing saturado, caso em que responde 429 com Retry-After.
+     */
+    private static AuthenticationEntryPoint basicAuthenticationEntryPoint() {
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("Realm"); // Mesmo realm do padrão do Spring Security
+        return (request, response, authException) -> {
+            if (authException instanceof PasswordHashingRejectedException rejected) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rejected.getRetryAfterSeconds()));
+                // Escreve a resposta diretamente: sendError despacharia para /error, que exige autenticação
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.getWriter().write(rejected.getMessage());
+            } else {
+                basic.commence(request, response, authException);
+            }
+        };
+    }
 }
@@ -0,0 +1,27 @@
+// src/main/java/com/example/travelagencyapi/config/StartupConfig.java
+package com.example.travelagencyapi.config;
+
+import com.example.travelagencyapi.service.RatingAggregator;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ajustes da inicialização rápida (perfil "fast-start", ver application-fast-start.properties).
+ * Com spring.main.lazy-initialization=true os beans são criados na primeira vez em que são usados;
+ * os listados aqui continuam sendo criados na inicialização, porque fazem trabalho que não pode esperar uma requisição.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    /**
+     * Mantém imediatos os beans que não podem ser preguiçosos:
+     * RatingAggregator recupera na inicialização as avaliações do log ainda não gravadas (ex: após uma queda).
+     * Sem inicialização preguiçosa, este filtro não tem efeito.
+     * @return O filtro que exclui esses beans da inicialização preguiçosa.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(RatingAggregator.class);
+    }
+}
@@ -1,12 +1,49 @@
 // src/main/java/com/example/travelagencyapi/config/WebConfig.java
 package com.example.travelagencyapi.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig implements WebMvcConfigurer, DisposableBean {
+
+    private static final String ASYNC_EXECUTOR_NAME = "mvc-async";
+
+    // Executor das respostas assíncronas do MVC (Flux/Mono da API reativa, StreamingResponseBody).
+    // O MVC escreve cada item de forma bloqueante numa thread deste executor, então um cliente lento ocupa
+    // uma thread enquanto a escrita não termina. Sem ele, o MVC usaria o applicationTaskExecutor (8 threads,
+    // fila ilimitada), compartilhado com as gravações da escrita adiada de avaliações.
+    // Null com threads virtuais: o applicationTaskExecutor já cria uma thread virtual por tarefa.
+    private final ThreadPoolTaskExecutor asyncExecutor;
+
+    @Autowired
+    public WebConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                     @Value("${app.reactive.async.threads:200}") int threads,
+                     @Value("${app.reactive.async.queue-capacity:100}") int queueCapacity,
+                     MeterRegistry meterRegistry) {
+        if (virtualThreads) {
+            this.asyncExecutor = null;
+            return;
+        }
+        this.asyncExecutor = new ThreadPoolTaskExecutor();
+        asyncExecutor.setCorePoolSize(threads);
+        asyncExecutor.setMaxPoolSize(threads);
+        asyncExecutor.setQueueCapacity(queueCapacity); // Fila cheia: a requisição falha em vez de esperar sem limite
+        asyncExecutor.setThreadNamePrefix(ASYNC_EXECUTOR_NAME + "-");
+        asyncExecutor.initialize();
+        // Métricas executor.* com a tag name=mvc-async (threads ativas, tamanho da fila)
+        new ExecutorServiceMetrics(asyncExecutor.getThreadPoolExecutor(), ASYNC_EXECUTOR_NAME, Tags.empty())
+                .bindTo(meterRegistry);
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -15,6 +52,24 @@ public class WebConfig implements WebMvcConfigurer {
                                      // Em produção, você colocaria domínios específicos:
                                      // .allowedOrigins("http://seu-dominio.com", "https://outro-dominio.com")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH") // Métodos HTTP permitidos
-                .allowedHeaders("*"); // Permite todos os cabeçalhos
+                .allowedHeaders("*") // Permite todos os cabeçalhos
+                .exposedHeaders("X-Next-Cursor", // Permite ao front-end ler o cursor da próxima página
+                        "Retry-After"); // E quando repetir uma requisição recusada (429/503)
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Aplicado depois da configuração automática do Spring Boot (que usaria o applicationTaskExecutor);
+        // o tempo limite continua vindo de spring.mvc.async.request-timeout
+        if (asyncExecutor != null) {
+            configurer.setTaskExecutor(asyncExecutor);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,40 @@
 // src/main/java/com/example/travelagencyapi/controller/DestinationController.java
 package com.example.travelagencyapi.controller;
 
+import com.example.travelagencyapi.dto.BulkItemResult;
+import com.example.travelagencyapi.dto.CatalogueVersion;
+import com.example.travelagencyapi.dto.DestinationField;
+import com.example.travelagencyapi.dto.DestinationPage;
+import com.example.travelagencyapi.dto.DestinationView;
 import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationBulkService;
 import com.example.travelagencyapi.service.DestinationService;
+import com.example.travelagencyapi.service.EncodedResponseCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Controlador REST para gerenciar operações relacionadas a destinos de viagem.
@@ -19,15 +44,27 @@ import java.util.Optional;
 @RequestMapping("/api/destinations") // Define o caminho base para todos os endpoints neste controlador
 public class DestinationController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // Cabeçalho com o cursor da próxima página
+
     private final DestinationService destinationService; // Injeção de dependência do serviço
+    private final DestinationBulkService destinationBulkService; // Operações em lote
+    private final ObjectMapper objectMapper; // Usado para ler e escrever NDJSON
+    private final EncodedResponseCache responseCache; // Listagens e pesquisas já serializadas e comprimidas
 
     /**
      * Construtor para injeção de dependência do DestinationService.
      * @param destinationService O serviço de destinos.
+     * @param destinationBulkService O serviço de operações em lote.
+     * @param objectMapper O ObjectMapper configurado pelo Spring Boot.
+     * @param responseCache O cache de respostas codificadas.
      */
     @Autowired // Marca o construtor para injeção automática de dependências
-    public DestinationController(DestinationService destinationService) {
+    public DestinationController(DestinationService destinationService, DestinationBulkService destinationBulkService,
+                                 ObjectMapper objectMapper, EncodedResponseCache responseCache) {
         this.destinationService = destinationService;
+        this.destinationBulkService = destinationBulkService;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -45,46 +82,143 @@ public class DestinationController {
     }
 
     /**
-     * Endpoint para listar todos os destinos de viagem disponíveis.
+     * Endpoint para listar os destinos de viagem disponíveis, página a página.
      * Método HTTP: GET
-     * URL: /api/destinations
-     * @return ResponseEntity contendo uma lista de destinos e o status HTTP 200 (OK).
+     * URL: /api/destinations?cursor=cursor_opaco&size=tamanho&fields=id,name
+     * Quando houver mais destinos, o cursor da próxima página é retornado no cabeçalho X-Next-Cursor.
+     * Apenas as colunas dos campos pedidos em fields são lidas do banco e enviadas (todos, se omitido).
+     * A resposta traz um ETag calculado a partir da versão do catálogo (um contador no banco, igual em todas as instâncias);
+     * se o cliente enviar If-None-Match e nada tiver mudado, a página nem é consultada.
+     * Páginas já enviadas ficam em cache como JSON e gzip prontos (EncodedResponseCache), por versão do catálogo.
+     * @param cursor O cursor retornado pela página anterior (omitido na primeira página).
+     * @param size O tamanho da página (padrão 50, máximo 500).
+     * @param fields Os campos desejados, separados por vírgula (ex: id,name,averageRating).
+     * @param webRequest A requisição, usada para avaliar os cabeçalhos condicionais e o Accept-Encoding.
+     * @return ResponseEntity contendo uma página de destinos em JSON e o status HTTP 200 (OK),
+     * 304 (Not Modified) se o catálogo não mudou, ou 400 (Bad Request) se o cursor ou algum campo for inválido.
      */
     @GetMapping
-    public ResponseEntity<List<Destination>> getAllDestinations() {
-        List<Destination> destinations = destinationService.getAllDestinations();
-        return new ResponseEntity<>(destinations, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllDestinations(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "" + DestinationService.DEFAULT_PAGE_SIZE) int size,
+                                                     @RequestParam(required = false) String fields,
+                                                     WebRequest webRequest) {
+        Set<DestinationField> selectedFields;
+        long afterId;
+        try {
+            selectedFields = DestinationField.parse(fields);
+            afterId = DestinationService.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        boolean gzip = EncodedResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        CatalogueVersion catalogueVersion = destinationService.getCatalogueVersion();
+        // Apenas valores já validados e normalizados entram no ETag e na chave do cache (o cursor e os campos vêm do
+        // cliente e poderiam conter aspas ou vírgulas); cursores e listas de campos equivalentes têm o mesmo ETag
+        String variant = catalogueVersion.getTag() + "-" + afterId + "-" + Math.max(1, Math.min(size, DestinationService.MAX_PAGE_SIZE))
+                + "-" + fieldsTag(selectedFields);
+        String eTag = "\"" + variant + (gzip ? "-gzip" : "") + "\""; // Cada codificação tem seu ETag
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // Resposta 304 (Not Modified) já preparada, sem corpo
+        }
+
+        String key = "list:" + variant;
+        try {
+            return responseCache.getOrEncode(key, () -> {
+                DestinationPage<DestinationView> page = destinationService.getDestinationViewsPage(cursor, size, selectedFields);
+                HttpHeaders headers = new HttpHeaders();
+                if (page.getNextCursor() != null) {
+                    headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+                }
+                return responseCache.encode(page.getItems(), headers);
+            }).toResponse(gzip);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Endpoint para exportar todos os destinos em streaming, um objeto JSON por linha (NDJSON).
+     * Método HTTP: GET
+     * URL: /api/destinations (com o cabeçalho Accept: application/x-ndjson)
+     * As linhas são escritas na resposta à medida que são lidas do banco, sem montar a lista em memória.
+     * @return ResponseEntity com o corpo em streaming e o status HTTP 200 (OK).
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDestinations() {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null); // O separador entre objetos é a quebra de linha
+                destinationService.streamAllDestinations(destination -> {
+                    try {
+                        writer.writeValue(generator, destination);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
-     * Endpoint para pesquisar destinos por nome ou localização.
+     * Endpoint para pesquisar destinos por nome, localização ou descrição, ordenados por relevância.
      * Método HTTP: GET
-     * URL: /api/destinations/search?query=nome_ou_localizacao
+     * URL: /api/destinations/search?query=termo&page=pagina&size=tamanho&fields=id,name
      * @param query O termo de pesquisa, passado como parâmetro de consulta.
-     * @return ResponseEntity contendo uma lista de destinos correspondentes e o status HTTP 200 (OK),
-     * ou 404 (Not Found) se nenhum destino for encontrado.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página (padrão 50, máximo 500).
+     * @param fields Os campos desejados, separados por vírgula (todos, se omitido).
+     * @param acceptEncoding O cabeçalho Accept-Encoding (resultados em cache já têm a versão gzip pronta).
+     * @return ResponseEntity contendo uma lista de destinos correspondentes em JSON e o status HTTP 200 (OK),
+     * 400 (Bad Request) se algum campo for inválido, ou 404 (Not Found) se nenhum destino for encontrado.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Destination>> searchDestinations(@RequestParam String query) {
-        List<Destination> destinations = destinationService.searchDestinations(query);
-        if (destinations.isEmpty()) {
+    public ResponseEntity<byte[]> searchDestinations(@RequestParam String query,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "" + DestinationService.DEFAULT_PAGE_SIZE) int size,
+                                                     @RequestParam(required = false) String fields,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Set<DestinationField> selectedFields;
+        try {
+            selectedFields = DestinationField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        // A versão do catálogo entra na chave, como na listagem: igual em todas as instâncias, e com a escrita adiada
+        // muda quando o lote de avaliações é gravado (e não a cada avaliação aceita por esta instância)
+        String key = "search:" + destinationService.getCatalogueVersion().getTag() + ":" + query.trim().toLowerCase(Locale.ROOT)
+                + ":" + Math.max(0, page)
+                + ":" + Math.max(1, Math.min(size, DestinationService.MAX_PAGE_SIZE)) + ":" + selectedFields;
+        EncodedResponseCache.EncodedPayload payload = responseCache.getOrEncode(key, () -> responseCache.encode(
+                destinationService.searchDestinationViews(query, page, size, selectedFields), new HttpHeaders()));
+        if (payload.getItemCount() == 0) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        return new ResponseEntity<>(destinations, HttpStatus.OK);
+        return payload.toResponse(EncodedResponseCache.acceptsGzip(acceptEncoding));
     }
 
     /**
      * Endpoint para visualizar informações detalhadas sobre um destino específico.
      * Método HTTP: GET
      * URL: /api/destinations/{id}
+     * A resposta traz ETag (versão do destino) e Last-Modified; com If-None-Match ou If-Modified-Since
+     * válidos, o Spring responde 304 (Not Modified) sem serializar o corpo.
      * @param id O ID do destino, passado como variável de caminho.
      * @return ResponseEntity contendo o destino e o status HTTP 200 (OK) se encontrado,
-     * ou 404 (Not Found) caso contrário.
+     * 304 (Not Modified) se não mudou, ou 404 (Not Found) caso contrário.
      */
     @GetMapping("/{id}")
     public ResponseEntity<Destination> getDestinationById(@PathVariable Long id) {
         Optional<Destination> destination = destinationService.getDestinationById(id);
-        return destination.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+        return destination.map(value -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTagOf(value));
+                    if (value.getUpdatedAt() != null) {
+                        response.lastModified(value.getUpdatedAt());
+                    }
+                    return response.body(value);
+                })
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
@@ -134,4 +268,118 @@ public class DestinationController {
         return updated.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
+
+    /**
+     * Endpoint para cadastrar vários destinos de uma vez (importação de catálogo).
+     * Método HTTP: POST
+     * URL: /api/destinations/bulk
+     * Corpo da requisição: array JSON de objetos Destination (ou NDJSON, ver createDestinationsNdjson).
+     * @param destinations Os destinos a serem criados.
+     * @return ResponseEntity com o resultado de cada item (201 com o ID gerado, ou o erro) e o status HTTP 200 (OK).
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> createDestinations(@RequestBody List<Destination> destinations) {
+        return new ResponseEntity<>(destinationBulkService.createDestinations(destinations.iterator()), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para cadastrar vários destinos enviados em streaming, um objeto JSON por linha (NDJSON).
+     * Método HTTP: POST
+     * URL: /api/destinations/bulk (com o cabeçalho Content-Type: application/x-ndjson)
+     * As linhas são lidas e gravadas em blocos, sem montar a importação inteira em memória.
+     * Linhas inválidas não interrompem a importação: aparecem como 400 no resultado do item.
+     * @param body O corpo da requisição.
+     * @return ResponseEntity com o resultado de cada linha e o status HTTP 200 (OK).
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> createDestinationsNdjson(InputStream body) {
+        return new ResponseEntity<>(destinationBulkService.createDestinations(readNdjson(body, Destination.class)), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para atualizar vários destinos de uma vez. Cada item deve conter o ID do destino.
+     * Método HTTP: PUT
+     * URL: /api/destinations/bulk
+     * Corpo da requisição: array JSON de objetos Destination com ID.
+     * @param destinations Os destinos com as informações atualizadas.
+     * @return ResponseEntity com o resultado de cada item (200, 400 ou 404) e o status HTTP 200 (OK).
+     */
+    @PutMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> updateDestinations(@RequestBody List<Destination> destinations) {
+        return new ResponseEntity<>(destinationBulkService.updateDestinations(destinations.iterator()), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para atualizar vários destinos enviados em streaming (NDJSON).
+     * Método HTTP: PUT
+     * URL: /api/destinations/bulk (com o cabeçalho Content-Type: application/x-ndjson)
+     * @param body O corpo da requisição, um objeto Destination com ID por linha.
+     * @return ResponseEntity com o resultado de cada linha e o status HTTP 200 (OK).
+     */
+    @PutMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> updateDestinationsNdjson(InputStream body) {
+        return new ResponseEntity<>(destinationBulkService.updateDestinations(readNdjson(body, Destination.class)), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para excluir vários destinos de uma vez.
+     * Método HTTP: DELETE
+     * URL: /api/destinations/bulk
+     * Corpo da requisição: array JSON com os IDs dos destinos.
+     * @param ids Os IDs dos destinos a serem excluídos.
+     * @return ResponseEntity com o resultado de cada item (204 ou 404) e o status HTTP 200 (OK).
+     */
+    @DeleteMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> deleteDestinations(@RequestBody List<Long> ids) {
+        return new ResponseEntity<>(destinationBulkService.deleteDestinations(ids.iterator()), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para excluir vários destinos enviados em streaming (NDJSON, um ID por linha).
+     * Método HTTP: DELETE
+     * URL: /api/destinations/bulk (com o cabeçalho Content-Type: application/x-ndjson)
+     * @param body O corpo da requisição.
+     * @return ResponseEntity com o resultado de cada linha e o status HTTP 200 (OK).
+     */
+    @DeleteMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> deleteDestinationsNdjson(InputStream body) {
+        return new ResponseEntity<>(destinationBulkService.deleteDestinations(readNdjson(body, Long.class)), HttpStatus.OK);
+    }
+
+    /**
+     * Calcula o ETag forte de um destino: muda a cada alteração gravada (versão)
+     * e a cada avaliação ainda pendente na escrita adiada (número de avaliações).
+     */
+    static String eTagOf(Destination destination) {
+        return "\"" + destination.getId() + "-" + destination.getVersion() + "-" + destination.getNumberOfRatings() + "\"";
+    }
+
+    /**
+     * Identifica um conjunto de campos no ETag: os bits das posições dos campos, em hexadecimal.
+     */
+    private static String fieldsTag(Set<DestinationField> fields) {
+        long bits = 0;
+        for (DestinationField field : fields) {
+            bits |= 1L << field.ordinal();
+        }
+        return Long.toHexString(bits);
+    }
+
+    /**
+     * Lê um corpo NDJSON sob demanda: cada linha só é lida e convertida quando o serviço pede o próximo item.
+     * Linhas em branco são ignoradas; linhas inválidas viram null e são reportadas como erro do item.
+     */
+    private <T> Iterator<T> readNdjson(InputStream body, Class<T> type) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, type);
+                    } catch (JsonProcessingException e) {
+                        return null;
+                    }
+                })
+                .iterator();
+    }
 }
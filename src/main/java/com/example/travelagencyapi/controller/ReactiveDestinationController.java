@@ -0,0 +1,88 @@
+// src/main/java/com/example/travelagencyapi/controller/ReactiveDestinationController.java
+package com.example.travelagencyapi.controller;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationService;
+import com.example.travelagencyapi.service.ReactiveDestinationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador da API reativa de leitura de destinos, para clientes móveis com muitas conexões lentas.
+ * As listas são enviadas em streaming (NDJSON ou Server-Sent Events): a requisição é processada de forma
+ * assíncrona e cada item só é lido do banco depois que o anterior foi escrito na resposta (contrapressão).
+ * A thread do Tomcat é liberada e nenhuma thread espera pelo banco, mas o Spring MVC escreve cada item de forma
+ * bloqueante numa thread do executor assíncrono (WebConfig): um cliente lento ocupa essa thread enquanto a escrita
+ * não termina, e o número de streams escrevendo ao mesmo tempo é limitado por app.reactive.async.threads.
+ * As regras de acesso de SecurityConfig valem como na API de DestinationController.
+ */
+@RestController
+@RequestMapping("/api/reactive/destinations")
+public class ReactiveDestinationController {
+
+    private final ReactiveDestinationService destinationService;
+
+    @Autowired
+    public ReactiveDestinationController(ReactiveDestinationService destinationService) {
+        this.destinationService = destinationService;
+    }
+
+    /**
+     * Endpoint para listar todos os destinos em streaming.
+     * Método HTTP: GET
+     * URL: /api/reactive/destinations (Accept: application/x-ndjson ou text/event-stream)
+     * @return Os destinos, em ordem crescente de id, um por linha (ou evento).
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Destination> streamAllDestinations() {
+        return destinationService.streamAllDestinations();
+    }
+
+    /**
+     * Endpoint para pesquisar destinos em streaming.
+     * Método HTTP: GET
+     * URL: /api/reactive/destinations/search?query=termo&page=pagina&size=tamanho
+     * Diferente de DestinationController, nenhum resultado é um stream vazio (200), não 404:
+     * o status é enviado antes de o primeiro item ser lido.
+     * @param query O termo de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página (padrão 50, máximo 500).
+     * @return Os destinos encontrados, um por linha (ou evento).
+     */
+    @GetMapping(path = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Destination> searchDestinations(@RequestParam String query,
+                                                @RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "" + DestinationService.DEFAULT_PAGE_SIZE) int size) {
+        return destinationService.searchDestinations(query, page, size);
+    }
+
+    /**
+     * Endpoint para visualizar um destino específico.
+     * Método HTTP: GET
+     * URL: /api/reactive/destinations/{id}
+     * @param id O ID do destino.
+     * @return O destino com ETag e Last-Modified (como em DestinationController) e o status HTTP 200 (OK),
+     * ou 404 (Not Found) se ele não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Destination>> getDestinationById(@PathVariable Long id) {
+        return destinationService.getDestinationById(id)
+                .map(destination -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(DestinationController.eTagOf(destination));
+                    if (destination.getUpdatedAt() != null) {
+                        response.lastModified(destination.getUpdatedAt());
+                    }
+                    return response.body(destination);
+                })
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+}
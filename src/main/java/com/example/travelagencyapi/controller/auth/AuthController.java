@@ -3,9 +3,13 @@ package com.example.travelagencyapi.controller.auth;
 
 import com.example.travelagencyapi.dto.LoginRequest;
 import com.example.travelagencyapi.dto.RegisterRequest;
+import com.example.travelagencyapi.dto.TokenResponse;
 import com.example.travelagencyapi.model.security.User;
 import com.example.travelagencyapi.service.auth.AuthService;
+import com.example.travelagencyapi.service.security.JwtTokenService;
+import com.example.travelagencyapi.service.security.PasswordHashingRejectedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,23 +28,27 @@ public class AuthController {
 
     private final AuthService authService;
     private final AuthenticationManager authenticationManager; // Necessário para injetar no AuthService
+    private final JwtTokenService tokenService; // Emite o token de acesso após o login
 
     @Autowired
-    public AuthController(AuthService authService, AuthenticationManager authenticationManager) {
+    public AuthController(AuthService authService, AuthenticationManager authenticationManager, JwtTokenService tokenService) {
         this.authService = authService;
         this.authenticationManager = authenticationManager; // Injeta AuthenticationManager
+        this.tokenService = tokenService;
     }
 
     /**
      * Endpoint para registrar um novo usuário.
      * @param registerRequest DTO contendo username, password e role.
-     * @return ResponseEntity com o usuário registrado e status 201 (Created).
+     * @return ResponseEntity com o usuário registrado e status 201 (Created), ou 429 (Too Many Requests) com o executor de hashing saturado.
      */
     @PostMapping("/register")
     public ResponseEntity<String> registerUser(@RequestBody RegisterRequest registerRequest) {
         try {
             authService.registerUser(registerRequest.getUsername(), registerRequest.getPassword(), registerRequest.getRole());
             return new ResponseEntity<>("Usuário registrado com sucesso!", HttpStatus.CREATED);
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
@@ -48,18 +56,35 @@ public class AuthController {
 
     /**
      * Endpoint para login de usuário.
+     * Em caso de sucesso, emite um token de acesso assinado que deve ser enviado nas próximas
+     * requisições no cabeçalho "Authorization: Bearer &lt;token&gt;" (o HTTP Basic continua aceito).
      * @param loginRequest DTO contendo username e password.
-     * @return ResponseEntity com mensagem de sucesso e status 200 (OK).
+     * @return ResponseEntity com o token de acesso e status 200 (OK), mensagem de erro e status 401 (Unauthorized),
+     *         ou 429 (Too Many Requests) com o executor de hashing saturado.
      */
     @PostMapping("/login")
-    public ResponseEntity<String> authenticateUser(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
         try {
             Authentication authentication = authService.authenticateUser(loginRequest.getUsername(), loginRequest.getPassword());
-            // Se a autenticação foi bem-sucedida, você pode gerar um token JWT aqui se estivesse usando JWT.
-            // Para HTTP Basic, a autenticação é stateless e não retorna um token de sessão.
-            return new ResponseEntity<>("Login realizado com sucesso para o usuário: " + authentication.getName(), HttpStatus.OK);
+            String accessToken = tokenService.issueToken(authentication);
+            TokenResponse tokenResponse = new TokenResponse(
+                    "Login realizado com sucesso para o usuário: " + authentication.getName(),
+                    accessToken,
+                    tokenService.getExpirationSeconds());
+            return new ResponseEntity<>(tokenResponse, HttpStatus.OK);
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.UNAUTHORIZED);
         }
     }
+
+    /**
+     * Resposta 429 quando o executor de hashing de senhas está saturado; o cliente pode repetir após Retry-After.
+     */
+    private static ResponseEntity<String> tooManyRequests(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.travelagencyapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+
+/**
+ * DTO (Data Transfer Object) com o resultado de um item de uma operação em lote.
+ * O status é o mesmo que a operação individual equivalente retornaria (201, 200, 204, 400, 404...).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private final int index; // Posição do item na requisição (começando em 0)
+    private final Long id; // ID do destino afetado, quando conhecido
+    private final int status;
+    private final String error; // Motivo da falha, ou null em caso de sucesso
+
+    public BulkItemResult(int index, Long id, HttpStatus status, String error) {
+        this.index = index;
+        this.id = id;
+        this.status = status.value();
+        this.error = error;
+    }
+
+    public static BulkItemResult success(int index, Long id, HttpStatus status) {
+        return new BulkItemResult(index, id, status, null);
+    }
+
+    public static BulkItemResult failure(int index, Long id, HttpStatus status, String error) {
+        return new BulkItemResult(index, id, status, error);
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.travelagencyapi.dto;
+
+/**
+ * DTO (Data Transfer Object) com a versão do catálogo de destinos como um todo.
+ * Muda sempre que um destino é criado, alterado, avaliado ou excluído (com a escrita adiada, quando o lote é gravado),
+ * e é obtida sem ler os destinos: é o contador da linha única de catalogue_state.
+ */
+public class CatalogueVersion {
+    private final long version; // Incrementado na mesma transação de cada escrita de destinos
+
+    public CatalogueVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * @return Um identificador compacto da versão, usado para montar ETags e chaves de cache.
+     */
+    public String getTag() {
+        return Long.toString(version);
+    }
+
+    // Getters
+    public long getVersion() {
+        return version;
+    }
+}
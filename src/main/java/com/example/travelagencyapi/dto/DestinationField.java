@@ -0,0 +1,61 @@
+package com.example.travelagencyapi.dto;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Campos de um destino que podem ser pedidos na listagem e na pesquisa (parâmetro fields).
+ * O nome de cada campo é o mesmo no JSON e no atributo da entidade Destination.
+ */
+public enum DestinationField {
+    ID("id"),
+    NAME("name"),
+    LOCATION("location"),
+    DESCRIPTION("description"),
+    AVERAGE_RATING("averageRating"),
+    NUMBER_OF_RATINGS("numberOfRatings"),
+    VERSION("version"),
+    UPDATED_AT("updatedAt");
+
+    private final String property;
+
+    DestinationField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Interpreta o parâmetro fields (ex: "id,name,averageRating"), sem diferenciar maiúsculas.
+     * O ID é sempre incluído (usado no cursor e nas avaliações pendentes).
+     * @param fields Os nomes dos campos separados por vírgula, ou null/vazio para todos os campos.
+     * @return Os campos pedidos.
+     * @throws IllegalArgumentException Se algum campo não existir.
+     */
+    public static Set<DestinationField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(DestinationField.class);
+        }
+        Set<DestinationField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromProperty(trimmed));
+        }
+        return selected;
+    }
+
+    private static DestinationField fromProperty(String name) {
+        for (DestinationField field : values()) {
+            if (field.property.toLowerCase(Locale.ROOT).equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Campo desconhecido: " + name);
+    }
+}
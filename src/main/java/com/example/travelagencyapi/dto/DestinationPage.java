@@ -0,0 +1,26 @@
+package com.example.travelagencyapi.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para uma página de destinos obtida por paginação por cursor (keyset no id).
+ * @param <T> O tipo dos itens (Destination ou DestinationView).
+ */
+public class DestinationPage<T> {
+    private final List<T> items;
+    private final String nextCursor; // Cursor opaco para a próxima página, ou null se esta for a última
+
+    public DestinationPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.travelagencyapi.dto;
+
+/**
+ * DTO (Data Transfer Object) para a resposta de login com o token de acesso emitido.
+ */
+public class TokenResponse {
+    private String message;
+    private String accessToken;
+    private String tokenType = "Bearer";
+    private long expiresIn; // Validade do token em segundos
+
+    // Construtor padrão
+    public TokenResponse() {
+    }
+
+    public TokenResponse(String message, String accessToken, long expiresIn) {
+        this.message = message;
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+    }
+
+    // Getters e Setters
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/example/travelagencyapi/filter/ClientKey.java
+package com.example.travelagencyapi.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Identifica o cliente de uma requisição nos filtros registrados depois do Spring Security:
+ * o usuário autenticado ou, sem autenticação (ex: login), o endereço IP.
+ */
+final class ClientKey {
+
+    private ClientKey() {
+    }
+
+    static String of(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/example/travelagencyapi/filter/CredentialRateLimitFilter.java
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.config.RateLimitProperties;
+import com.example.travelagencyapi.service.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que limita, por IP, as requisições que tentam credenciais em /api/**: as que trazem
+ * "Authorization: Basic" e as de /api/auth/** (login). Acima do limite, responde 429 com Retry-After
+ * e conta a recusa em ratelimit.rejected (tag route=credentials).
+ *
+ * Registrado antes da cadeia do Spring Security: o HTTP Basic verifica a senha (BCrypt) dentro da cadeia,
+ * e uma tentativa com senha errada termina em 401 sem chegar ao RateLimitFilter, que limita por usuário depois dela.
+ */
+public class CredentialRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ROUTE = "credentials";
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimiter.Limit limit; // null quando a limitação está desativada
+    private final Counter rejected;
+
+    public CredentialRateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimitProperties.Credentials credentials = properties.getCredentials();
+        this.rateLimiter = new RateLimiter(properties.getMaxClients());
+        this.limit = credentials.getRequestsPerSecond() > 0
+                ? new RateLimiter.Limit(credentials.getRequestsPerSecond(), credentials.getBurst()) : null;
+        this.rejected = Counter.builder("ratelimit.rejected")
+                .description("Requisições recusadas pela limitação de taxa por cliente")
+                .tag("route", ROUTE)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String apiPath = request.getContextPath() + "/api/";
+        if (limit == null || !request.getRequestURI().startsWith(apiPath)) {
+            return true;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        boolean basic = authorization != null && authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length());
+        return !basic && !request.getRequestURI().startsWith(apiPath + "auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Antes da autenticação o cliente ainda não é conhecido: o balde é sempre o do IP
+        long waitNanos = rateLimiter.tryAcquire("ip:" + request.getRemoteAddr(), limit);
+        if (waitNanos > 0) {
+            rejected.increment();
+            RateLimitFilter.reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
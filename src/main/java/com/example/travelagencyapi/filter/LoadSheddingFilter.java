@@ -0,0 +1,73 @@
+// src/main/java/com/example/travelagencyapi/filter/LoadSheddingFilter.java
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.service.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtro que descarta carga em /api/** quando as requisições simultâneas passam do limite adaptativo
+ * (ver AdaptiveConcurrencyLimiter): responde 503 com Retry-After na hora, em vez de enfileirar e estourar o SLO
+ * de todos. Métricas: loadshed.rejected, loadshed.limit e loadshed.in-flight.
+ *
+ * Registrado antes do Spring Security, para que requisições descartadas não gastem autenticação (BCrypt).
+ * Em respostas assíncronas (streaming), apenas o despacho inicial é contado.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejected = Counter.builder("loadshed.rejected")
+                .description("Requisições descartadas pelo limite adaptativo de concorrência")
+                .register(meterRegistry);
+        Gauge.builder("loadshed.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite atual de requisições simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("loadshed.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requisições em andamento")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("Serviço sobrecarregado; tente novamente em instantes.");
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+// src/main/java/com/example/travelagencyapi/filter/RateLimitFilter.java
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.config.RateLimitProperties;
+import com.example.travelagencyapi.service.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que limita a taxa de requisições por cliente em /api/**, com um limite por rota (ver RateLimitProperties).
+ * Cada cliente (usuário autenticado ou IP) tem um balde por rota; acima do limite, responde 429 com Retry-After
+ * e conta a recusa em ratelimit.rejected (tag route). O gauge ratelimit.buckets mostra os baldes em memória.
+ *
+ * Registrado depois da cadeia do Spring Security, para que o usuário autenticado já seja conhecido.
+ * Tentativas de credenciais recusadas pela própria cadeia não chegam aqui: são limitadas por IP,
+ * antes dela, pelo CredentialRateLimitFilter.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final RateLimiter rateLimiter;
+    private final List<LimitedRoute> routes = new ArrayList<>();
+    private final LimitedRoute defaultRoute;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = new RateLimiter(properties.getMaxClients());
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            AntPathRequestMatcher matcher = StringUtils.hasText(route.getMethod())
+                    ? AntPathRequestMatcher.antMatcher(HttpMethod.valueOf(route.getMethod().toUpperCase()), route.getPattern())
+                    : AntPathRequestMatcher.antMatcher(route.getPattern());
+            routes.add(new LimitedRoute(route.getPattern(), matcher, route.getRequestsPerSecond(), route.getBurst(), meterRegistry));
+        }
+        this.defaultRoute = new LimitedRoute(DEFAULT_ROUTE, null, properties.getRequestsPerSecond(), properties.getBurst(), meterRegistry);
+        Gauge.builder("ratelimit.buckets", rateLimiter, RateLimiter::getBucketCount)
+                .description("Baldes de limitação de taxa em memória (rota e cliente)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimitedRoute route = routeFor(request);
+        if (route.limit == null) {
+            filterChain.doFilter(request, response); // Rota sem limite
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(route.name + "|" + ClientKey.of(request), route.limit);
+        if (waitNanos > 0) {
+            route.rejected.increment();
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Responde 429 com Retry-After (em segundos, arredondado para cima).
+     * @param response A resposta da requisição recusada.
+     * @param waitNanos O tempo até o balde aceitar a próxima requisição.
+     * @throws IOException Se a resposta não puder ser escrita.
+     */
+    static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Limite de requisições excedido; tente novamente em " + retryAfterSeconds + " s.");
+    }
+
+    private LimitedRoute routeFor(HttpServletRequest request) {
+        for (LimitedRoute route : routes) {
+            if (route.matcher.matches(request)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    /**
+     * Uma rota configurada, com seu limite já convertido e seu contador de recusas.
+     */
+    private static final class LimitedRoute {
+
+        private final String name;
+        private final AntPathRequestMatcher matcher;
+        private final RateLimiter.Limit limit; // null quando a rota não é limitada
+        private final Counter rejected;
+
+        private LimitedRoute(String name, AntPathRequestMatcher matcher, double requestsPerSecond, int burst,
+                             MeterRegistry meterRegistry) {
+            this.name = name;
+            this.matcher = matcher;
+            this.limit = requestsPerSecond > 0 ? new RateLimiter.Limit(requestsPerSecond, burst) : null;
+            this.rejected = Counter.builder("ratelimit.rejected")
+                    .description("Requisições recusadas pela limitação de taxa por cliente")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+    }
+}
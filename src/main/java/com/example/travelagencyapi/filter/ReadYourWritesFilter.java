@@ -0,0 +1,53 @@
+// src/main/java/com/example/travelagencyapi/filter/ReadYourWritesFilter.java
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Filtro que garante a leitura das próprias escritas com a réplica de leitura.
+ * Uma requisição de escrita bem-sucedida (POST, PUT, PATCH, DELETE com status abaixo de 400) registra o cliente;
+ * as requisições seguintes do mesmo cliente, dentro do intervalo de ReadYourWrites, leem do primário.
+ * O cliente é o usuário autenticado ou, sem autenticação (ex: login), o endereço IP.
+ *
+ * Registrado depois da cadeia do Spring Security, para que o usuário autenticado já seja conhecido.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !readYourWrites.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = ClientKey.of(request);
+        if (readYourWrites.wroteRecently(client)) {
+            try (ReadYourWrites.Pin ignored = ReadYourWrites.pinToPrimary()) {
+                filterChain.doFilter(request, response);
+            }
+        } else {
+            filterChain.doFilter(request, response);
+        }
+
+        if (!READ_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+            readYourWrites.recordWrite(client);
+        }
+    }
+}
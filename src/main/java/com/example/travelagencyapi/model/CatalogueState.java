@@ -0,0 +1,42 @@
+// src/main/java/com/example/travelagencyapi/model/CatalogueState.java
+package com.example.travelagencyapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Linha única com o estado do catálogo que não pode ser obtido dos próprios destinos.
+ * Hoje guarda apenas a versão do catálogo: um contador incrementado na mesma transação de cada escrita de destinos,
+ * que não depende de relógios nem do estado em memória de cada instância.
+ */
+@Entity
+@Table(name = "catalogue_state")
+public class CatalogueState {
+    public static final int SINGLETON_ID = 1; // A tabela tem uma única linha (criada pela migração V4)
+
+    @Id
+    private int id;
+
+    @Column(nullable = false)
+    private long version; // Incrementado na mesma transação de cada escrita (individual, bloco ou lote de avaliações)
+
+    // Construtor padrão necessário para JPA
+    public CatalogueState() {
+    }
+
+    public CatalogueState(int id, long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,11 +1,19 @@
 // src/main/java/com/example/travelagencyapi/model/Destination.java
 package com.example.travelagencyapi.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity; // Importe jakarta.persistence.Entity
 import jakarta.persistence.GeneratedValue; // Importe jakarta.persistence.GeneratedValue
 import jakarta.persistence.GenerationType; // Importe jakarta.persistence.GenerationType
 import jakarta.persistence.Id; // Importe jakarta.persistence.Id
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table; // Importe jakarta.persistence.Table
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -14,8 +22,14 @@ import java.util.Objects;
 @Entity // Indica que esta classe é uma entidade JPA e será mapeada para uma tabela
 @Table(name = "destinations") // Opcional: define o nome da tabela no BD. Se omitido, usa o nome da classe.
 public class Destination {
+    public static final String ID_SEQUENCE = "destinations_seq";
+    public static final int ID_ALLOCATION_SIZE = 50; // IDs reservados por chamada à sequência (igual ao hibernate.jdbc.batch_size)
+
     @Id // Marca o campo 'id' como a chave primária
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Configura a geração automática de ID pelo banco de dados (ex: SERIAL no PostgreSQL)
+    // IDs vêm de uma sequência com alocação em blocos: o Hibernate conhece o ID antes do INSERT
+    // e pode agrupar as inserções em lotes JDBC (com IDENTITY cada INSERT precisava ir ao banco sozinho)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String name;
     private String location;
@@ -23,6 +37,18 @@ public class Destination {
     private double averageRating; // Para armazenar a avaliação média calculada
     private int numberOfRatings; // Para controlar o número de avaliações recebidas
 
+    @Version // Incrementada a cada alteração; usada no ETag e no controle de concorrência otimista
+    @ColumnDefault("0") // Preenche as linhas já existentes quando a coluna é criada
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY) // Controlada pelo servidor, ignorada nas requisições
+    private long version;
+
+    @UpdateTimestamp // Atualizada pelo Hibernate a cada inserção ou alteração
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant updatedAt; // Data da última modificação (cabeçalho Last-Modified)
+
     /**
      * Construtor padrão. Necessário para JPA.
      */
@@ -45,6 +71,21 @@ public class Destination {
         this.numberOfRatings = 0;   // Inicializa o número de avaliações como 0
     }
 
+    /**
+     * Construtor de cópia. Cria um instantâneo desanexado de outro destino.
+     * @param other O destino a ser copiado.
+     */
+    public Destination(Destination other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.location = other.location;
+        this.description = other.description;
+        this.averageRating = other.averageRating;
+        this.numberOfRatings = other.numberOfRatings;
+        this.version = other.version;
+        this.updatedAt = other.updatedAt;
+    }
+
     // --- Getters e Setters ---
 
     public Long getId() {
@@ -95,6 +136,22 @@ public class Destination {
         this.numberOfRatings = numberOfRatings;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Sobrescreve o método equals para comparar objetos Destination pelo ID.
      * @param o O objeto a ser comparado.
@@ -0,0 +1,42 @@
+// src/main/java/com/example/travelagencyapi/model/RatingJournalState.java
+package com.example.travelagencyapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Último segmento do log de avaliações já gravado no banco, por log (instância).
+ * Mapeado apenas para que o schema criado pelo Hibernate inclua a tabela; o RatingAggregator a acessa por JDBC,
+ * na mesma transação do lote gravado (migração V5).
+ */
+@Entity
+@Table(name = "rating_journal_state")
+public class RatingJournalState {
+
+    @Id
+    @Column(length = 36)
+    private String journalId; // Identificador do log, gerado na primeira execução e guardado ao lado dele
+
+    @Column(nullable = false)
+    private long lastFlushedSegment;
+
+    // Construtor padrão necessário para JPA
+    public RatingJournalState() {
+    }
+
+    public RatingJournalState(String journalId, long lastFlushedSegment) {
+        this.journalId = journalId;
+        this.lastFlushedSegment = lastFlushedSegment;
+    }
+
+    // Getters
+    public String getJournalId() {
+        return journalId;
+    }
+
+    public long getLastFlushedSegment() {
+        return lastFlushedSegment;
+    }
+}
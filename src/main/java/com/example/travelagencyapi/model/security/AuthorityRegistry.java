@@ -0,0 +1,100 @@
+// src/main/java/com/example/travelagencyapi/model/security/AuthorityRegistry.java
+package com.example.travelagencyapi.model.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro compartilhado de autoridades do Spring Security.
+ * Cada nome de papel tem uma única instância de GrantedAuthority, e cada combinação de papéis tem um único
+ * conjunto imutável de autoridades, compartilhado por todos os usuários (e tokens) com os mesmos papéis.
+ *
+ * A hierarquia de papéis, se configurada (app.security.role-hierarchy, ex: "ROLE_ADMIN>ROLE_USER"), é resolvida ao
+ * montar o conjunto, não a cada verificação: um ROLE_ADMIN já recebe ROLE_USER no próprio conjunto, então
+ * hasRole("USER") é uma simples consulta ao conjunto. Sem configuração, cada usuário tem apenas os próprios papéis.
+ */
+public final class AuthorityRegistry {
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<Set<String>, Set<GrantedAuthority>> AUTHORITY_SETS = new ConcurrentHashMap<>();
+    private static volatile Map<String, List<String>> hierarchy = Map.of(); // Papéis implicados por cada papel
+
+    private AuthorityRegistry() {
+    }
+
+    /**
+     * Define a hierarquia de papéis e descarta os conjuntos já montados.
+     * Chamado na inicialização (ver SecurityConfig); conjuntos já atribuídos a usuários ou tokens não são alterados.
+     * @param definition Pares "papel>papel implicado" separados por vírgula (ex: "ROLE_ADMIN>ROLE_USER"),
+     *                   ou vazio para nenhuma hierarquia.
+     * @throws IllegalArgumentException Se algum par for inválido.
+     */
+    public static void configureHierarchy(String definition) {
+        Map<String, List<String>> parsed = new HashMap<>();
+        if (definition != null && !definition.isBlank()) {
+            for (String pair : definition.split(",")) {
+                String[] roles = pair.split(">");
+                if (roles.length != 2 || roles[0].isBlank() || roles[1].isBlank()) {
+                    throw new IllegalArgumentException("Par inválido na hierarquia de papéis: '" + pair.trim() + "'");
+                }
+                parsed.computeIfAbsent(roles[0].trim(), key -> new ArrayList<>()).add(roles[1].trim());
+            }
+        }
+        hierarchy = Map.copyOf(parsed);
+        AUTHORITY_SETS.clear();
+    }
+
+    /**
+     * @param name O nome da autoridade (ex: "ROLE_ADMIN").
+     * @return A instância compartilhada da autoridade.
+     */
+    public static GrantedAuthority authority(String name) {
+        return AUTHORITIES.computeIfAbsent(name, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * Monta (ou reaproveita) o conjunto de autoridades de uma combinação de papéis, já com os papéis implicados.
+     * @param roleNames Os nomes dos papéis atribuídos.
+     * @return O conjunto imutável e compartilhado de autoridades.
+     */
+    public static Set<GrantedAuthority> authoritiesFor(Collection<String> roleNames) {
+        if (roleNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> key = roleNames instanceof Set<String> set ? set : Set.copyOf(roleNames);
+        Set<GrantedAuthority> cached = AUTHORITY_SETS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return AUTHORITY_SETS.computeIfAbsent(Set.copyOf(key), AuthorityRegistry::resolve);
+    }
+
+    private static Set<GrantedAuthority> resolve(Set<String> roleNames) {
+        Set<String> reachable = new LinkedHashSet<>();
+        Map<String, List<String>> implied = hierarchy;
+        Deque<String> pending = new ArrayDeque<>(roleNames);
+        while (!pending.isEmpty()) {
+            String role = pending.pop();
+            if (reachable.add(role)) {
+                pending.addAll(implied.getOrDefault(role, List.of()));
+            }
+        }
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (String role : reachable) {
+            authorities.add(authority(role));
+        }
+        return Collections.unmodifiableSet(authorities);
+    }
+}
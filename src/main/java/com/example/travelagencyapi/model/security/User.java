@@ -3,13 +3,14 @@ package com.example.travelagencyapi.model.security;
 
 import jakarta.persistence.*;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Entidade que representa um usuário do sistema, mapeada para uma tabela no banco de dados.
@@ -37,6 +38,9 @@ public class User implements UserDetails {
     )
     private Set<Role> roles = new HashSet<>();
 
+    @Transient
+    private volatile Set<GrantedAuthority> authorities; // Calculado uma vez a partir dos papéis (ver AuthorityRegistry)
+
     // Construtor padrão necessário para JPA
     public User() {
     }
@@ -73,25 +77,43 @@ public class User implements UserDetails {
         this.password = password;
     }
 
+    /**
+     * @return Os papéis do usuário, somente leitura: alterações passam por setRoles, que recalcula as autoridades.
+     */
     public Set<Role> getRoles() {
-        return roles;
+        return Collections.unmodifiableSet(roles);
     }
 
     public void setRoles(Set<Role> roles) {
         this.roles = roles;
+        this.authorities = resolveAuthorities(roles);
+    }
+
+    private static Set<GrantedAuthority> resolveAuthorities(Set<Role> roles) {
+        List<String> roleNames = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            roleNames.add(role.getName());
+        }
+        return AuthorityRegistry.authoritiesFor(roleNames);
     }
 
     // --- Métodos de UserDetails (Implementação do Spring Security) ---
 
     /**
-     * Retorna as autoridades (papéis/permissões) concedidas ao usuário.
+     * Retorna as autoridades (papéis/permissões) concedidas ao usuário, incluindo as implicadas pela hierarquia
+     * configurada no AuthorityRegistry. O conjunto é imutável e compartilhado entre usuários com os mesmos papéis.
+     * Calculado na primeira chamada após a carga do banco de dados (UserDetailsServiceImpl o faz antes de guardar
+     * o usuário em cache), e não em um callback do JPA durante a hidratação da entidade.
      * @return Uma coleção de GrantedAuthority.
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
-                .collect(Collectors.toList());
+        Set<GrantedAuthority> resolved = authorities;
+        if (resolved == null) {
+            resolved = resolveAuthorities(roles); // Sempre o mesmo conjunto compartilhado, então a corrida é inofensiva
+            authorities = resolved;
+        }
+        return resolved;
     }
 
     /**
@@ -0,0 +1,45 @@
+// src/main/java/com/example/travelagencyapi/repository/CatalogueStateRepository.java
+package com.example.travelagencyapi.repository;
+
+import com.example.travelagencyapi.model.CatalogueState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Interface de repositório para a linha única de CatalogueState (versão do catálogo).
+ */
+@Repository
+public interface CatalogueStateRepository extends JpaRepository<CatalogueState, Integer> {
+
+    /**
+     * Obtém a versão do catálogo com uma leitura pela chave primária.
+     * @return A versão, ou um Optional vazio se a linha ainda não existir.
+     */
+    @Query("SELECT s.version FROM CatalogueState s WHERE s.id = " + CatalogueState.SINGLETON_ID)
+    Optional<Long> findVersion();
+
+    /**
+     * Incrementa a versão do catálogo.
+     * @return O número de linhas alteradas (0 se a linha ainda não existir).
+     */
+    @Modifying
+    @Query("UPDATE CatalogueState s SET s.version = s.version + 1 WHERE s.id = " + CatalogueState.SINGLETON_ID)
+    int incrementVersion();
+
+    /**
+     * Registra uma escrita de destinos na versão do catálogo; deve ser chamado na mesma transação da escrita,
+     * para que a versão mude exatamente quando a escrita se torna visível (e não mude se ela for desfeita).
+     * A linha é criada pela migração V4; sem o Flyway (ddl-auto=create-drop nos testes) ela é criada aqui.
+     */
+    @Transactional
+    default void recordChange() {
+        if (incrementVersion() == 0) {
+            save(new CatalogueState(CatalogueState.SINGLETON_ID, 1));
+        }
+    }
+}
@@ -2,10 +2,21 @@
 package com.example.travelagencyapi.repository;
 
 import com.example.travelagencyapi.model.Destination;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade Destination.
@@ -14,8 +25,8 @@ import java.util.List;
  * O Spring Data JPA cria automaticamente uma implementação desta interface em tempo de execução.
  */
 @Repository // Indica que esta interface é um componente de repositório gerenciado pelo Spring
-public interface DestinationRepository extends JpaRepository<Destination, Long> {
-    // JpaRepository<Tipo da Entidade, Tipo da Chave Primária>
+public interface DestinationRepository extends JpaRepository<Destination, Long>, DestinationViewRepository {
+    // JpaRepository<Tipo da Entidade, Tipo da Chave Primária>; projeções em DestinationViewRepository
 
     /**
      * Método para pesquisar destinos pelo nome ou localização.
@@ -25,4 +36,101 @@ public interface DestinationRepository extends JpaRepository<Destination, Long>
      * @return Uma lista de destinos que correspondem ao nome ou localização.
      */
     List<Destination> findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(String name, String location);
+
+    /**
+     * Busca a próxima página de destinos a partir de um id (paginação keyset).
+     * Usa o índice da chave primária, então o custo não depende da posição da página na tabela.
+     * @param id O último id já retornado (exclusivo).
+     * @param limit O número máximo de destinos a retornar.
+     * @return Os destinos com id maior que o informado, em ordem crescente de id.
+     */
+    List<Destination> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Percorre todos os destinos em ordem de id com um cursor JDBC somente-avanço.
+     * Deve ser consumido dentro de uma transação e fechado ao final (try-with-resources).
+     * @return Um Stream com todos os destinos, lidos do banco em lotes.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), // Linhas buscadas por ida ao banco
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") // Sem snapshots para dirty-checking
+    })
+    @Query("SELECT d FROM Destination d ORDER BY d.id")
+    Stream<Destination> streamAllOrderedById();
+
+    /**
+     * Registra uma avaliação com um único UPDATE atômico no banco de dados.
+     * A nova média é calculada a partir dos valores atuais da linha (que fica bloqueada durante o UPDATE),
+     * então avaliações simultâneas nunca se sobrescrevem.
+     * A versão e a data de modificação também são atualizadas, invalidando ETags emitidos antes.
+     * @param id O ID do destino avaliado.
+     * @param rating A nota de avaliação (1-10).
+     * @param now A nova data de modificação.
+     * @return O número de linhas alteradas (0 se o destino não existir).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Destination d SET d.averageRating = (d.averageRating * d.numberOfRatings + :rating) / (d.numberOfRatings + 1), "
+            + "d.numberOfRatings = d.numberOfRatings + 1, d.version = d.version + 1, d.updatedAt = :now WHERE d.id = :id")
+    int addRating(@Param("id") Long id, @Param("rating") int rating, @Param("now") Instant now);
+
+    /**
+     * Filtra, entre os IDs informados, os que existem no banco de dados.
+     * Usado nas exclusões em lote para saber quais itens respondem 404 sem carregar as entidades.
+     * @param ids Os IDs a verificar.
+     * @return Os IDs existentes.
+     */
+    @Query("SELECT d.id FROM Destination d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Pesquisa textual no PostgreSQL, ordenada por relevância.
+     * Casa por prefixo de palavras em nome, localização e descrição (tsvector) ou por similaridade
+     * de trigramas em nome e localização (pg_trgm). As duas expressões são servidas por índices GIN
+     * criados pela migração V2__access_path_indexes (as expressões devem permanecer idênticas).
+     * @param query O termo de pesquisa original (usado na similaridade de trigramas).
+     * @param prefixQuery O termo convertido em tsquery de prefixos (ex: "praia:* &amp; flor:*").
+     * @param limit O número máximo de destinos a retornar.
+     * @param offset O número de destinos a pular (paginação).
+     * @return Os destinos encontrados, do mais relevante para o menos relevante.
+     */
+    @Query(value = """
+            SELECT d.* FROM destinations d
+            WHERE to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, ''))
+                    @@ to_tsquery('simple', :prefixQuery)
+               OR :query <% (coalesce(d.name, '') || ' ' || coalesce(d.location, ''))
+            ORDER BY ts_rank(to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, '')),
+                             to_tsquery('simple', :prefixQuery))
+                     + word_similarity(:query, coalesce(d.name, '') || ' ' || coalesce(d.location, '')) DESC,
+                     d.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Destination> searchFullText(@Param("query") String query,
+                                     @Param("prefixQuery") String prefixQuery,
+                                     @Param("limit") int limit,
+                                     @Param("offset") long offset);
+
+    /**
+     * Mesma pesquisa de searchFullText, retornando apenas os IDs (as colunas são lidas depois, por projeção).
+     * @param query O termo de pesquisa original (usado na similaridade de trigramas).
+     * @param prefixQuery O termo convertido em tsquery de prefixos.
+     * @param limit O número máximo de IDs a retornar.
+     * @param offset O número de destinos a pular (paginação).
+     * @return Os IDs encontrados, do mais relevante para o menos relevante.
+     */
+    @Query(value = """
+            SELECT d.id FROM destinations d
+            WHERE to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, ''))
+                    @@ to_tsquery('simple', :prefixQuery)
+               OR :query <% (coalesce(d.name, '') || ' ' || coalesce(d.location, ''))
+            ORDER BY ts_rank(to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, '')),
+                             to_tsquery('simple', :prefixQuery))
+                     + word_similarity(:query, coalesce(d.name, '') || ' ' || coalesce(d.location, '')) DESC,
+                     d.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> searchFullTextIds(@Param("query") String query,
+                                 @Param("prefixQuery") String prefixQuery,
+                                 @Param("limit") int limit,
+                                 @Param("offset") long offset);
 }
@@ -0,0 +1,34 @@
+// src/main/java/com/example/travelagencyapi/repository/DestinationViewRepository.java
+package com.example.travelagencyapi.repository;
+
+import com.example.travelagencyapi.dto.DestinationField;
+import com.example.travelagencyapi.dto.DestinationView;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consultas de projeção de destinos: apenas as colunas pedidas são lidas, e cada linha vira um DestinationView
+ * sem passar pelo contexto de persistência (sem entidade gerenciada nem snapshot para dirty-checking).
+ * Implementada por DestinationViewRepositoryImpl e incorporada a DestinationRepository pelo Spring Data.
+ */
+public interface DestinationViewRepository {
+
+    /**
+     * Busca a próxima página de destinos a partir de um id (paginação keyset), como findByIdGreaterThanOrderByIdAsc.
+     * @param afterId O último id já retornado (exclusivo).
+     * @param limit O número máximo de destinos a retornar.
+     * @param fields Os campos a consultar (deve incluir o ID).
+     * @return Os destinos com id maior que o informado, em ordem crescente de id.
+     */
+    List<DestinationView> findViewsAfterId(long afterId, int limit, Set<DestinationField> fields);
+
+    /**
+     * Busca destinos pelos IDs, mantendo a ordem informada (ex: ordem de relevância da pesquisa).
+     * IDs inexistentes são ignorados.
+     * @param ids Os IDs dos destinos.
+     * @param fields Os campos a consultar (deve incluir o ID).
+     * @return Os destinos encontrados, na ordem dos IDs.
+     */
+    List<DestinationView> findViewsByIds(List<Long> ids, Set<DestinationField> fields);
+}
@@ -0,0 +1,102 @@
+// src/main/java/com/example/travelagencyapi/repository/DestinationViewRepositoryImpl.java
+package com.example.travelagencyapi.repository;
+
+import com.example.travelagencyapi.dto.DestinationField;
+import com.example.travelagencyapi.dto.DestinationView;
+import com.example.travelagencyapi.model.Destination;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementação de DestinationViewRepository com consultas Criteria de tuplas:
+ * o SELECT contém apenas as colunas dos campos pedidos.
+ */
+public class DestinationViewRepositoryImpl implements DestinationViewRepository {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public DestinationViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<DestinationView> findViewsAfterId(long afterId, int limit, Set<DestinationField> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Destination> root = query.from(Destination.class);
+        query.multiselect(selections(root, fields))
+                .where(builder.greaterThan(root.<Long>get("id"), afterId))
+                .orderBy(builder.asc(root.get("id")));
+        List<Tuple> tuples = entityManager.createQuery(query).setMaxResults(limit).getResultList();
+
+        List<DestinationView> views = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            views.add(toView(tuple, fields));
+        }
+        return views;
+    }
+
+    @Override
+    public List<DestinationView> findViewsByIds(List<Long> ids, Set<DestinationField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Destination> root = query.from(Destination.class);
+        query.multiselect(selections(root, fields)).where(root.get("id").in(ids));
+
+        Map<Long, DestinationView> viewsById = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            DestinationView view = toView(tuple, fields);
+            viewsById.put(view.getId(), view);
+        }
+        List<DestinationView> views = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            DestinationView view = viewsById.get(id);
+            if (view != null) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    private static List<Selection<?>> selections(Root<Destination> root, Set<DestinationField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (DestinationField field : fields) {
+            selections.add(root.get(field.getProperty()).alias(field.getProperty()));
+        }
+        return selections;
+    }
+
+    private static DestinationView toView(Tuple tuple, Set<DestinationField> fields) {
+        DestinationView view = new DestinationView();
+        for (DestinationField field : fields) {
+            Object value = tuple.get(field.getProperty());
+            switch (field) {
+                case ID -> view.setId((Long) value);
+                case NAME -> view.setName((String) value);
+                case LOCATION -> view.setLocation((String) value);
+                case DESCRIPTION -> view.setDescription((String) value);
+                case AVERAGE_RATING -> view.setAverageRating((Double) value);
+                case NUMBER_OF_RATINGS -> view.setNumberOfRatings((Integer) value);
+                case VERSION -> view.setVersion((Long) value);
+                case UPDATED_AT -> view.setUpdatedAt((Instant) value);
+            }
+        }
+        return view;
+    }
+}
@@ -0,0 +1,189 @@
+// src/main/java/com/example/travelagencyapi/repository/ReactiveDestinationRepository.java
+package com.example.travelagencyapi.repository;
+
+import com.example.travelagencyapi.model.Destination;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+/**
+ * Leitura não bloqueante de destinos com R2DBC, usada pela API reativa (/api/reactive/destinations).
+ * As escritas continuam no JPA (DestinationRepository); aqui apenas a tabela destinations é lida.
+ *
+ * O pool R2DBC é criado por esta classe e não é exposto como bean: com um ConnectionFactory no contexto,
+ * o Spring Boot deixaria de configurar o DataSource JDBC usado pelo JPA.
+ * A URL é derivada de spring.datasource.url quando app.reactive.r2dbc-url não é informada.
+ */
+@Repository
+public class ReactiveDestinationRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, name, location, description, average_rating, number_of_ratings, version, updated_at";
+    private static final int FETCH_SIZE = 200; // Linhas por ida ao banco; o restante só é lido quando o cliente consome
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final boolean postgres; // Pesquisa textual com tsvector e pg_trgm; nos demais bancos, LIKE
+
+    @Autowired
+    public ReactiveDestinationRepository(@Value("${app.reactive.r2dbc-url:}") String r2dbcUrl,
+                                         @Value("${spring.datasource.url}") String jdbcUrl,
+                                         @Value("${spring.datasource.username:}") String username,
+                                         @Value("${spring.datasource.password:}") String password,
+                                         @Value("${app.reactive.pool.max-size:20}") int maxSize,
+                                         @Value("${app.reactive.pool.max-idle-seconds:1800}") long maxIdleSeconds) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                .parse(r2dbcUrl.isBlank() ? toR2dbcUrl(jdbcUrl) : r2dbcUrl)
+                .mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(connectionFactory.getMetadata().getName());
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(0) // Conexões abertas sob demanda: a API reativa pode nem ser usada
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Lê todos os destinos em ordem de id, em lotes de FETCH_SIZE conforme a demanda do assinante.
+     * @return Os destinos, em ordem crescente de id.
+     */
+    public Flux<Destination> findAllOrderedById() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM destinations ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> toDestination(row))
+                .all();
+    }
+
+    /**
+     * Busca um destino pelo ID.
+     * @param id O ID do destino.
+     * @return O destino, ou vazio se ele não existir.
+     */
+    public Mono<Destination> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM destinations WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toDestination(row))
+                .one();
+    }
+
+    /**
+     * @return true se o banco for PostgreSQL (searchFullText disponível).
+     */
+    public boolean supportsFullTextSearch() {
+        return postgres;
+    }
+
+    /**
+     * Pesquisa textual no PostgreSQL, com a mesma consulta e os mesmos índices de DestinationRepository.searchFullText.
+     * @param query O termo de pesquisa original (usado na similaridade de trigramas).
+     * @param prefixQuery O termo convertido em tsquery de prefixos (ex: "praia:* &amp; flor:*").
+     * @param limit O número máximo de destinos a retornar.
+     * @param offset O número de destinos a pular (paginação).
+     * @return Os destinos encontrados, do mais relevante para o menos relevante.
+     */
+    public Flux<Destination> searchFullText(String query, String prefixQuery, int limit, long offset) {
+        return databaseClient.sql("""
+                        SELECT d.id, d.name, d.location, d.description, d.average_rating, d.number_of_ratings, d.version, d.updated_at
+                        FROM destinations d
+                        WHERE to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, ''))
+                                @@ to_tsquery('simple', :prefixQuery)
+                           OR :query <% (coalesce(d.name, '') || ' ' || coalesce(d.location, ''))
+                        ORDER BY ts_rank(to_tsvector('simple', coalesce(d.name, '') || ' ' || coalesce(d.location, '') || ' ' || coalesce(d.description, '')),
+                                         to_tsquery('simple', :prefixQuery))
+                                 + word_similarity(:query, coalesce(d.name, '') || ' ' || coalesce(d.location, '')) DESC,
+                                 d.id
+                        LIMIT :limit OFFSET :offset
+                        """)
+                .bind("query", query)
+                .bind("prefixQuery", prefixQuery)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toDestination(row))
+                .all();
+    }
+
+    /**
+     * Pesquisa simples por trecho de nome, localização ou descrição (sem diferenciar maiúsculas), em ordem de id.
+     * Usada quando o banco não é PostgreSQL (ex: H2 nos testes).
+     * @param query O trecho procurado.
+     * @param limit O número máximo de destinos a retornar.
+     * @param offset O número de destinos a pular (paginação).
+     * @return Os destinos que contêm o trecho.
+     */
+    public Flux<Destination> searchContaining(String query, int limit, long offset) {
+        String pattern = "%" + query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM destinations "
+                        + "WHERE lower(name) LIKE :pattern ESCAPE '\\' OR lower(location) LIKE :pattern ESCAPE '\\' "
+                        + "OR lower(description) LIKE :pattern ESCAPE '\\' "
+                        + "ORDER BY id LIMIT :limit OFFSET :offset")
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toDestination(row))
+                .all();
+    }
+
+    /**
+     * Fecha o pool de conexões R2DBC quando o contexto é encerrado.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static Destination toDestination(Row row) {
+        Destination destination = new Destination(row.get("id", Long.class), row.get("name", String.class),
+                row.get("location", String.class), row.get("description", String.class));
+        destination.setAverageRating(row.get("average_rating", Double.class));
+        destination.setNumberOfRatings(row.get("number_of_ratings", Integer.class));
+        destination.setVersion(row.get("version", Long.class));
+        OffsetDateTime updatedAt = row.get("updated_at", OffsetDateTime.class);
+        destination.setUpdatedAt(updatedAt == null ? null : updatedAt.toInstant());
+        return destination;
+    }
+
+    /**
+     * Converte a URL JDBC na URL R2DBC equivalente, para PostgreSQL e H2 em memória.
+     * Ex: jdbc:postgresql://host:5432/banco?reWriteBatchedInserts=true vira r2dbc:postgresql://host:5432/banco
+     * (os parâmetros do PgJDBC não valem para o driver R2DBC) e jdbc:h2:mem:nome;DB_CLOSE_DELAY=-1 vira
+     * r2dbc:h2:mem:///nome (o mesmo banco em memória, já aberto pelo pool JDBC).
+     * @param jdbcUrl A URL de spring.datasource.url.
+     * @return A URL R2DBC.
+     * @throws IllegalStateException Se não houver conversão conhecida; nesse caso informe app.reactive.r2dbc-url.
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            String url = "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+            int query = url.indexOf('?');
+            return query < 0 ? url : url.substring(0, query);
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            String name = jdbcUrl.substring("jdbc:h2:mem:".length());
+            int options = name.indexOf(';');
+            return "r2dbc:h2:mem:///" + (options < 0 ? name : name.substring(0, options));
+        }
+        throw new IllegalStateException("Não é possível derivar a URL R2DBC de " + jdbcUrl + "; defina app.reactive.r2dbc-url");
+    }
+}
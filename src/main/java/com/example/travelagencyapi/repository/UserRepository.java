@@ -4,6 +4,8 @@ package com.example.travelagencyapi.repository.security;
 import com.example.travelagencyapi.model.security.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 /**
@@ -19,8 +21,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * Encontra um usuário pelo seu nome de usuário.
      * O Spring Data JPA gera a query automaticamente com base no nome do método.
+     * Usado pelos caminhos de escrita (registro, troca de senha e de papel), que leem do primário.
      * @param username O nome de usuário a ser pesquisado.
      * @return Um Optional contendo o usuário se encontrado, ou um Optional vazio caso contrário.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Mesma consulta de findByUsername, somente leitura: com réplica de leitura configurada, vai à réplica.
+     * Usado apenas na autenticação (UserDetailsServiceImpl.loadUserByUsername), que não grava o usuário lido.
+     * @param username O nome de usuário a ser pesquisado.
+     * @return Um Optional contendo o usuário se encontrado, ou um Optional vazio caso contrário.
+     */
+    @Transactional(readOnly = true)
+    Optional<User> readByUsername(String username);
 }
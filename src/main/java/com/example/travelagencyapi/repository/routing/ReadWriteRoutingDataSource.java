@@ -0,0 +1,52 @@
+// src/main/java/com/example/travelagencyapi/repository/routing/ReadWriteRoutingDataSource.java
+package com.example.travelagencyapi.repository.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Encaminha cada conexão ao primário ou à réplica de leitura.
+ * Transações @Transactional(readOnly = true) vão à réplica, exceto quando a thread está fixada no primário
+ * (ReadYourWrites); escritas e acessos fora de transação vão ao primário.
+ *
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: o JpaTransactionManager pede a conexão antes de marcar
+ * a transação como somente leitura, e o proxy adia a escolha até o primeiro comando SQL.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Destino de uma conexão.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * @param primary O banco de dados principal (leituras e escritas).
+     * @param replica A réplica (apenas leituras).
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    /**
+     * @return O destino das conexões pedidas agora pela thread atual.
+     */
+    public static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isPrimaryPinned()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,137 @@
+// src/main/java/com/example/travelagencyapi/repository/routing/ReadYourWrites.java
+package com.example.travelagencyapi.repository.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura das próprias escritas (read-your-writes) com a réplica de leitura.
+ * A réplica recebe as alterações do primário com algum atraso. Por app.datasource.replica.read-your-writes-seconds
+ * após uma escrita, as leituras do mesmo cliente ficam fixadas no primário (ver ReadYourWritesFilter), e os caches
+ * compartilhados são limpos de novo ao fim desse intervalo, descartando valores recarregados da réplica ainda atrasada.
+ *
+ * Sem réplica configurada (app.datasource.replica.url vazio) nada é registrado nem agendado.
+ * Os clientes com escritas recentes ficam na memória desta instância; com várias instâncias, o balanceador
+ * deve manter cada cliente na mesma instância durante esse intervalo.
+ */
+@Component
+public class ReadYourWrites implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWrites.class);
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>(); // Leituras da thread atual vão ao primário
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final Cache<String, Boolean> recentWriters; // Clientes que escreveram dentro do intervalo
+    private final ScheduledExecutorService scheduler; // Segunda invalidação dos caches, ao fim do intervalo
+
+    @Autowired
+    public ReadYourWrites(@Value("${app.datasource.replica.url:}") String replicaUrl,
+                          @Value("${app.datasource.replica.read-your-writes-seconds:5}") long windowSeconds) {
+        this.enabled = !replicaUrl.isBlank() && windowSeconds > 0;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(Math.max(0, windowSeconds));
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * @return true se há réplica configurada e um intervalo de leitura das próprias escritas.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registra que o cliente acabou de escrever; o intervalo recomeça a cada nova escrita.
+     * @param client Identifica o cliente (ex: nome do usuário autenticado ou endereço IP).
+     */
+    public void recordWrite(String client) {
+        if (enabled) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @param client Identifica o cliente.
+     * @return true se o cliente escreveu dentro do intervalo.
+     */
+    public boolean wroteRecently(String client) {
+        return enabled && recentWriters.getIfPresent(client) != null;
+    }
+
+    /**
+     * Agenda uma ação (ex: limpar um cache) para o fim do intervalo, quando a réplica já deve ter recebido a escrita.
+     * Sem réplica, não faz nada: a limpeza imediata feita por quem chamou já é suficiente.
+     * @param action A ação a executar.
+     */
+    public void afterReplicaLag(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao invalidar cache após o atraso da réplica: {}", e.getMessage());
+            }
+        }, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fixa as leituras da thread atual no primário, até o fechamento do Pin retornado.
+     * @return O Pin, para uso em try-with-resources.
+     */
+    public static Pin pinToPrimary() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return true se as leituras da thread atual estão fixadas no primário.
+     */
+    public static boolean isPrimaryPinned() {
+        return PINNED.get() != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Escopo de uma fixação no primário.
+     */
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
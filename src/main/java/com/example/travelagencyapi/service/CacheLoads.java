@@ -0,0 +1,54 @@
+// src/main/java/com/example/travelagencyapi/service/CacheLoads.java
+package com.example.travelagencyapi.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Carga de caches sem bloqueio dentro do mapa.
+ *
+ * Cache.get(chave, função) do Caffeine executa a função dentro de ConcurrentHashMap.compute, que segura o
+ * monitor (synchronized) do bucket durante toda a carga. Quando a carga é uma consulta JDBC, uma thread virtual
+ * fica presa (pinned) à thread portadora até o banco responder. Aqui o mapa recebe apenas um CompletableFuture
+ * vazio (operação imediata) e a consulta roda fora do lock, na própria thread de quem pediu; chamadas simultâneas
+ * para a mesma chave continuam esperando uma única carga.
+ */
+public final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    /**
+     * Retorna o valor em cache ou o carrega com a função informada.
+     * @param cache O cache assíncrono.
+     * @param key A chave.
+     * @param loader A função de carga (ex: consulta ao banco); exceções dela são repassadas a quem chamou.
+     * @return O valor em cache ou recém-carregado.
+     */
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> placeholder);
+        if (future == placeholder) {
+            // Esta chamada é a responsável pela carga; falhas removem a entrada do cache automaticamente
+            try {
+                placeholder.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                placeholder.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
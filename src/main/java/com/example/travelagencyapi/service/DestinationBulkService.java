@@ -0,0 +1,275 @@
+// src/main/java/com/example/travelagencyapi/service/DestinationBulkService.java
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.dto.BulkItemResult;
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.CatalogueStateRepository;
+import com.example.travelagencyapi.repository.DestinationRepository;
+import com.example.travelagencyapi.service.search.DestinationSearchEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Camada de serviço para criar, atualizar e excluir destinos em lote (importações de catálogo).
+ * Os itens são consumidos aos poucos e gravados em blocos de app.bulk.chunk-size, cada bloco em uma transação;
+ * dentro do bloco o Hibernate agrupa os comandos em lotes JDBC (hibernate.jdbc.batch_size).
+ *
+ * Se um bloco falhar (ex: violação de restrição ou conflito de versão), ele é desfeito e seus itens
+ * são reprocessados um a um pelo caminho individual de DestinationService, isolando apenas os itens com problema.
+ */
+@Service
+public class DestinationBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(DestinationBulkService.class);
+
+    private final DestinationRepository destinationRepository;
+    private final CatalogueStateRepository catalogueStateRepository; // Versão do catálogo, incrementada a cada escrita
+    private final DestinationService destinationService; // Caminho individual, usado quando um bloco falha
+    private final DestinationSearchEngine searchEngine;
+    private final DestinationCache destinationCache;
+    private final EncodedResponseCache responseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize; // Itens por transação
+
+    @Autowired
+    public DestinationBulkService(DestinationRepository destinationRepository, CatalogueStateRepository catalogueStateRepository,
+                                  DestinationService destinationService,
+                                  DestinationSearchEngine searchEngine, DestinationCache destinationCache,
+                                  EncodedResponseCache responseCache, TransactionTemplate transactionTemplate,
+                                  @Value("${app.bulk.chunk-size:500}") int chunkSize) {
+        this.destinationRepository = destinationRepository;
+        this.catalogueStateRepository = catalogueStateRepository;
+        this.destinationService = destinationService;
+        this.searchEngine = searchEngine;
+        this.destinationCache = destinationCache;
+        this.responseCache = responseCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Cria vários destinos. IDs informados nos itens são ignorados: novos IDs são gerados pela sequência.
+     * @param destinations Os destinos a criar; itens null (ex: linhas NDJSON inválidas) resultam em 400.
+     * @return O resultado de cada item, na ordem recebida (201 com o ID gerado, ou o erro).
+     */
+    public List<BulkItemResult> createDestinations(Iterator<Destination> destinations) {
+        return inChunks(destinations, this::createChunk, (index, destination) -> {
+            destination.setId(null);
+            Destination created = destinationService.createDestination(destination);
+            return BulkItemResult.success(index, created.getId(), HttpStatus.CREATED);
+        });
+    }
+
+    /**
+     * Atualiza nome, localização e descrição de vários destinos, identificados pelo ID de cada item.
+     * @param destinations Os destinos com as informações atualizadas.
+     * @return O resultado de cada item, na ordem recebida (200, 400 sem ID, ou 404).
+     */
+    public List<BulkItemResult> updateDestinations(Iterator<Destination> destinations) {
+        return inChunks(destinations, this::updateChunk, (index, destination) -> {
+            if (destination.getId() == null) {
+                return BulkItemResult.failure(index, null, HttpStatus.BAD_REQUEST, "Item inválido ou sem ID");
+            }
+            boolean updated = destinationService.updateDestination(destination.getId(), destination).isPresent();
+            return updated
+                    ? BulkItemResult.success(index, destination.getId(), HttpStatus.OK)
+                    : BulkItemResult.failure(index, destination.getId(), HttpStatus.NOT_FOUND, "Destino não encontrado");
+        });
+    }
+
+    /**
+     * Exclui vários destinos pelo ID.
+     * @param ids Os IDs dos destinos a excluir.
+     * @return O resultado de cada item, na ordem recebida (204 ou 404).
+     */
+    public List<BulkItemResult> deleteDestinations(Iterator<Long> ids) {
+        return inChunks(ids, this::deleteChunk, (index, id) -> destinationService.deleteDestination(id)
+                ? BulkItemResult.success(index, id, HttpStatus.NO_CONTENT)
+                : BulkItemResult.failure(index, id, HttpStatus.NOT_FOUND, "Destino não encontrado"));
+    }
+
+    private BulkItemResult[] createChunk(int firstIndex, List<Destination> chunk) {
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        List<Destination> toSave = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Destination destination = chunk.get(i);
+            if (destination == null) {
+                results[i] = BulkItemResult.failure(firstIndex + i, null, HttpStatus.BAD_REQUEST, "Item inválido");
+            } else {
+                destination.setId(null); // Sempre persist (INSERT em lote), nunca merge
+                toSave.add(destination);
+            }
+        }
+
+        destinationRepository.saveAllAndFlush(toSave);
+        if (!toSave.isEmpty()) {
+            catalogueStateRepository.recordChange(); // Um incremento por bloco basta para mudar a versão
+        }
+        afterCommit(() -> toSave.forEach(searchEngine::index));
+        Iterator<Destination> saved = toSave.iterator();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                Destination destination = saved.next();
+                destinationCache.invalidate(destination.getId()); // O ID pode estar no cache negativo
+                results[i] = BulkItemResult.success(firstIndex + i, destination.getId(), HttpStatus.CREATED);
+            }
+        }
+        return results;
+    }
+
+    private BulkItemResult[] updateChunk(int firstIndex, List<Destination> chunk) {
+        Set<Long> ids = chunk.stream()
+                .filter(Objects::nonNull)
+                .map(Destination::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Uma única consulta (WHERE id IN ...) para o bloco inteiro
+        Map<Long, Destination> existing = destinationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Destination::getId, Function.identity()));
+
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Destination updated = chunk.get(i);
+            if (updated == null || updated.getId() == null) {
+                results[i] = BulkItemResult.failure(firstIndex + i, null, HttpStatus.BAD_REQUEST, "Item inválido ou sem ID");
+                continue;
+            }
+            Destination destination = existing.get(updated.getId());
+            if (destination == null) {
+                results[i] = BulkItemResult.failure(firstIndex + i, updated.getId(), HttpStatus.NOT_FOUND, "Destino não encontrado");
+                continue;
+            }
+            // Atualiza apenas os campos permitidos para alteração, como em DestinationService.updateDestination
+            destination.setName(updated.getName());
+            destination.setLocation(updated.getLocation());
+            destination.setDescription(updated.getDescription());
+            destinationCache.invalidate(destination.getId());
+            results[i] = BulkItemResult.success(firstIndex + i, destination.getId(), HttpStatus.OK);
+        }
+
+        // Os UPDATEs (com verificação de versão) são enviados em lote aqui; um conflito desfaz o bloco
+        destinationRepository.flush();
+        if (!existing.isEmpty()) {
+            catalogueStateRepository.recordChange(); // Um incremento por bloco basta para mudar a versão
+        }
+        List<Destination> changed = new ArrayList<>(existing.values());
+        afterCommit(() -> changed.forEach(searchEngine::index));
+        return results;
+    }
+
+    private BulkItemResult[] deleteChunk(int firstIndex, List<Long> chunk) {
+        Set<Long> found = new HashSet<>(destinationRepository.findExistingIds(
+                chunk.stream().filter(Objects::nonNull).collect(Collectors.toSet())));
+        if (!found.isEmpty()) {
+            destinationRepository.deleteAllByIdInBatch(found); // Um único DELETE ... WHERE id IN
+            catalogueStateRepository.recordChange(); // Um incremento por bloco basta para mudar a versão
+            found.forEach(destinationCache::invalidate);
+            afterCommit(() -> found.forEach(searchEngine::remove));
+        }
+
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i);
+            if (id == null) {
+                results[i] = BulkItemResult.failure(firstIndex + i, null, HttpStatus.BAD_REQUEST, "Item inválido");
+            } else if (found.contains(id)) {
+                results[i] = BulkItemResult.success(firstIndex + i, id, HttpStatus.NO_CONTENT);
+            } else {
+                results[i] = BulkItemResult.failure(firstIndex + i, id, HttpStatus.NOT_FOUND, "Destino não encontrado");
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Consome os itens em blocos de chunkSize, gravando cada bloco em sua própria transação.
+     * Apenas o bloco atual fica em memória, então o volume total da importação não é limitado pela memória.
+     */
+    private <T> List<BulkItemResult> inChunks(Iterator<T> items, ChunkWriter<T> chunkWriter, ItemWriter<T> itemWriter) {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        while (items.hasNext()) {
+            chunk.add(items.next());
+            if (chunk.size() == chunkSize || !items.hasNext()) {
+                results.addAll(writeChunk(results.size(), chunk, chunkWriter, itemWriter));
+                chunk.clear();
+            }
+        }
+        return results;
+    }
+
+    private <T> List<BulkItemResult> writeChunk(int firstIndex, List<T> chunk, ChunkWriter<T> chunkWriter, ItemWriter<T> itemWriter) {
+        try {
+            return Arrays.asList(transactionTemplate.execute(status -> {
+                responseCache.invalidateAll(); // De novo após o commit (ou rollback)
+                return chunkWriter.write(firstIndex, chunk);
+            }));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Falha ao gravar o bloco a partir do item {} ({}); reprocessando os itens individualmente.",
+                    firstIndex, e.getMessage());
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(writeItem(firstIndex + i, chunk.get(i), itemWriter));
+        }
+        return results;
+    }
+
+    private <T> BulkItemResult writeItem(int index, T item, ItemWriter<T> itemWriter) {
+        if (item == null) {
+            return BulkItemResult.failure(index, null, HttpStatus.BAD_REQUEST, "Item inválido");
+        }
+        try {
+            return itemWriter.write(index, item);
+        } catch (DataIntegrityViolationException e) {
+            return BulkItemResult.failure(index, null, HttpStatus.BAD_REQUEST, "Dados inválidos: " + e.getMostSpecificCause().getMessage());
+        } catch (DataAccessException e) {
+            return BulkItemResult.failure(index, null, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Executa a ação após o commit da transação atual (ex: atualizar o índice de pesquisa em memória),
+     * para que um bloco desfeito não deixe rastros fora do banco de dados.
+     */
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        BulkItemResult[] write(int firstIndex, List<T> chunk);
+    }
+
+    @FunctionalInterface
+    private interface ItemWriter<T> {
+        BulkItemResult write(int index, T item);
+    }
+}
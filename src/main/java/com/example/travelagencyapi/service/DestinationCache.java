@@ -0,0 +1,119 @@
+// src/main/java/com/example/travelagencyapi/service/DestinationCache.java
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache de leitura (read-through) de destinos por ID, limitado por tamanho e com expiração.
+ * Guarda instantâneos desanexados das entidades; quem lê do cache não deve alterá-los.
+ *
+ * IDs inexistentes também são guardados (cache negativo), com uma expiração menor.
+ * Cargas simultâneas da mesma chave resultam em uma única consulta ao banco, evitando
+ * uma avalanche de consultas quando uma chave muito acessada expira.
+ *
+ * Com réplica de leitura, cada remoção é repetida ao fim do atraso da réplica (ver ReadYourWrites), e leituras
+ * fixadas no primário ignoram o cache.
+ */
+@Component
+public class DestinationCache {
+
+    private final AsyncCache<Long, Optional<Destination>> cache; // Assíncrono apenas para carregar fora do lock do mapa (ver CacheLoads)
+    private final ReadYourWrites readYourWrites;
+
+    @Autowired
+    public DestinationCache(@Value("${app.destination-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${app.destination-cache.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${app.destination-cache.negative-ttl-seconds:5}") long negativeTtlSeconds,
+                            ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<Destination>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<Destination> destination, long currentTime) {
+                        return destination.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<Destination> destination, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, destination, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<Destination> destination, long currentTime, long currentDuration) {
+                        return currentDuration; // A leitura não prolonga a validade
+                    }
+                })
+                .recordStats() // Acertos, faltas e remoções
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "destinations");
+    }
+
+    /**
+     * Retorna o destino do cache ou, na ausência, carrega-o com a função informada.
+     * @param id O ID do destino.
+     * @param loader A função que busca o destino no banco de dados.
+     * @return Um Optional com o destino, ou vazio se ele não existir.
+     */
+    public Optional<Destination> get(Long id, Function<Long, Optional<Destination>> loader) {
+        if (ReadYourWrites.isPrimaryPinned()) {
+            return loader.apply(id); // O cache pode ter sido recarregado da réplica antes de receber a escrita deste cliente
+        }
+        return CacheLoads.getOrLoad(cache, id, loader);
+    }
+
+    /**
+     * Remove um destino do cache. Dentro de uma transação, a remoção acontece apenas após o commit,
+     * para que uma leitura concorrente não volte a guardar o valor antigo.
+     * @param id O ID do destino alterado ou excluído.
+     */
+    public void invalidate(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(id);
+                }
+            });
+        } else {
+            remove(id);
+        }
+    }
+
+    private void remove(Long id) {
+        cache.synchronous().invalidate(id);
+        readYourWrites.afterReplicaLag(() -> cache.synchronous().invalidate(id));
+    }
+
+    /**
+     * Remove todos os destinos do cache.
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * @return As estatísticas do cache (acertos, faltas e remoções).
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+}
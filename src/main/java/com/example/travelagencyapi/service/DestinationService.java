@@ -1,26 +1,89 @@
 // src/main/java/com/example/travelagencyapi/service/DestinationService.java
 package com.example.travelagencyapi.service;
 
+import com.example.travelagencyapi.dto.CatalogueVersion;
+import com.example.travelagencyapi.dto.DestinationField;
+import com.example.travelagencyapi.dto.DestinationPage;
+import com.example.travelagencyapi.dto.DestinationView;
 import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.CatalogueStateRepository;
 import com.example.travelagencyapi.repository.DestinationRepository; // Importe o novo repositório
+import com.example.travelagencyapi.service.search.DestinationSearchEngine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Camada de serviço para gerenciar operações de negócios relacionadas a destinos.
  * Agora utiliza DestinationRepository para persistência de dados no banco de dados.
+ * Cada método público tem um timer destination.service (tags class e method).
  */
 @Service
+@Timed(value = "destination.service", histogram = true)
 public class DestinationService {
 
+    private static final Logger log = LoggerFactory.getLogger(DestinationService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 50; // Tamanho de página padrão da listagem
+    public static final int MAX_PAGE_SIZE = 500; // Limite superior do tamanho de página
+    private static final int MAX_UPDATE_ATTEMPTS = 3; // Tentativas quando uma avaliação concorrente altera a versão
+
     private final DestinationRepository destinationRepository; // Injeção de dependência do repositório
+    private final CatalogueStateRepository catalogueStateRepository; // Versão do catálogo, incrementada a cada escrita
+    private final TransactionTemplate transactionTemplate; // Escrita e versão do catálogo na mesma transação
+    private final EntityManager entityManager; // Usado para desanexar entidades durante o streaming
+    private final DestinationSearchEngine searchEngine; // Pesquisa textual (PostgreSQL ou índice em memória)
+    private final Optional<RatingAggregator> ratingAggregator; // Presente apenas com a escrita adiada de avaliações ativa
+    private final DestinationCache destinationCache; // Cache de leitura por ID
+    private final EncodedResponseCache responseCache; // Listagens e pesquisas codificadas; limpo a cada escrita (exceto avaliações adiadas)
+    private final Counter acceptedRatings; // Vazão de avaliações aceitas (destination.ratings)
+    private final Counter rejectedRatings;
 
     @Autowired // Injeta o DestinationRepository via construtor
-    public DestinationService(DestinationRepository destinationRepository) {
+    public DestinationService(DestinationRepository destinationRepository, CatalogueStateRepository catalogueStateRepository,
+                              TransactionTemplate transactionTemplate, EntityManager entityManager,
+                              DestinationSearchEngine searchEngine, Optional<RatingAggregator> ratingAggregator,
+                              DestinationCache destinationCache, EncodedResponseCache responseCache,
+                              MeterRegistry meterRegistry) {
         this.destinationRepository = destinationRepository;
+        this.catalogueStateRepository = catalogueStateRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.searchEngine = searchEngine;
+        this.ratingAggregator = ratingAggregator;
+        this.destinationCache = destinationCache;
+        this.responseCache = responseCache;
+        String mode = ratingAggregator.isPresent() ? "write-behind" : "direct";
+        this.acceptedRatings = Counter.builder("destination.ratings")
+                .description("Avaliações de destinos recebidas")
+                .tag("mode", mode)
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedRatings = Counter.builder("destination.ratings")
+                .description("Avaliações de destinos recebidas")
+                .tag("mode", mode)
+                .tag("result", "rejected")
+                .register(meterRegistry);
     }
 
     /**
@@ -29,67 +92,184 @@ public class DestinationService {
      * @return O destino salvo com o ID gerado pelo banco de dados.
      */
     public Destination createDestination(Destination destination) {
-        // O ID será gerado automaticamente pelo banco de dados (GenerationType.IDENTITY)
-        return destinationRepository.save(destination);
+        // O ID é gerado pela sequência destinations_seq (reservada em blocos pelo Hibernate)
+        Destination savedDestination = transactionTemplate.execute(status -> {
+            Destination saved = destinationRepository.save(destination);
+            catalogueStateRepository.recordChange(); // A versão do catálogo muda no mesmo commit
+            return saved;
+        });
+        searchEngine.index(savedDestination);
+        destinationCache.invalidate(savedDestination.getId()); // O ID pode estar no cache negativo
+        responseCache.invalidateAll();
+        return savedDestination;
     }
 
     /**
      * Retorna uma lista de todos os destinos disponíveis do banco de dados.
      * @return Uma lista contendo todos os destinos.
      */
+    @Transactional(readOnly = true)
     public List<Destination> getAllDestinations() {
         return destinationRepository.findAll();
     }
 
     /**
-     * Pesquisa destinos por nome ou localização no banco de dados.
-     * A pesquisa não diferencia maiúsculas de minúsculas.
-     * @param query A string de pesquisa (nome ou localização).
+     * Retorna a versão atual do catálogo, usada para respostas condicionais (ETag) da listagem.
+     * Com a escrita adiada, as avaliações mudam a versão quando o lote é gravado, igualmente em todas as instâncias.
+     * @return A versão do catálogo.
+     */
+    @Transactional(readOnly = true)
+    public CatalogueVersion getCatalogueVersion() {
+        // Uma leitura pela chave primária da linha única de catalogue_state
+        return new CatalogueVersion(catalogueStateRepository.findVersion().orElse(0L));
+    }
+
+    /**
+     * Retorna uma página de destinos usando paginação por cursor (keyset no id).
+     * @param cursor O cursor opaco retornado pela página anterior, ou null para a primeira página.
+     * @param size O tamanho de página desejado (limitado entre 1 e MAX_PAGE_SIZE).
+     * @return A página de destinos e o cursor da próxima página (null se for a última).
+     * @throws IllegalArgumentException Se o cursor for inválido.
+     */
+    @Transactional(readOnly = true)
+    public DestinationPage<Destination> getDestinationsPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = decodeCursor(cursor);
+
+        // Busca um item a mais apenas para saber se existe próxima página
+        List<Destination> destinations = destinationRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        if (destinations.size() <= pageSize) {
+            return new DestinationPage<>(withPendingRatings(destinations), null);
+        }
+        List<Destination> page = destinations.subList(0, pageSize);
+        return new DestinationPage<>(withPendingRatings(page), encodeCursor(page.get(pageSize - 1).getId()));
+    }
+
+    /**
+     * Retorna uma página de destinos por cursor, como getDestinationsPage, lendo apenas os campos pedidos.
+     * Nenhuma entidade é carregada: cada linha vira diretamente um DestinationView.
+     * @param cursor O cursor opaco retornado pela página anterior, ou null para a primeira página.
+     * @param size O tamanho de página desejado (limitado entre 1 e MAX_PAGE_SIZE).
+     * @param fields Os campos pedidos (ver DestinationField.parse).
+     * @return A página de destinos e o cursor da próxima página (null se for a última).
+     * @throws IllegalArgumentException Se o cursor for inválido.
+     */
+    @Transactional(readOnly = true)
+    public DestinationPage<DestinationView> getDestinationViewsPage(String cursor, int size, Set<DestinationField> fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = decodeCursor(cursor);
+
+        // Busca um item a mais apenas para saber se existe próxima página
+        List<DestinationView> views = destinationRepository.findViewsAfterId(afterId, pageSize + 1, queriedFields(fields));
+        if (views.size() <= pageSize) {
+            return new DestinationPage<>(withPendingRatings(views, fields), null);
+        }
+        List<DestinationView> page = views.subList(0, pageSize);
+        return new DestinationPage<>(withPendingRatings(page, fields), encodeCursor(page.get(pageSize - 1).getId()));
+    }
+
+    /**
+     * Percorre todos os destinos em ordem de id, entregando um de cada vez ao consumidor.
+     * As linhas são lidas com um cursor somente-avanço e desanexadas logo após o uso,
+     * então o uso de memória não cresce com o tamanho da tabela.
+     * @param consumer O consumidor que recebe cada destino (ex: escrita na resposta HTTP).
+     */
+    @Transactional(readOnly = true)
+    public void streamAllDestinations(Consumer<Destination> consumer) {
+        try (Stream<Destination> destinations = destinationRepository.streamAllOrderedById()) {
+            destinations.forEach(destination -> {
+                consumer.accept(withPendingRatings(destination));
+                entityManager.detach(destination);
+            });
+        }
+    }
+
+    /**
+     * Pesquisa destinos por nome, localização ou descrição, ordenados por relevância.
+     * A pesquisa não diferencia maiúsculas de minúsculas e casa por prefixo de palavras.
+     * @param query A string de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página (limitado entre 1 e MAX_PAGE_SIZE).
      * @return Uma lista de destinos que correspondem à consulta.
      */
-    public List<Destination> searchDestinations(String query) {
-        // Usa o método customizado do repositório para pesquisa
-        return destinationRepository.findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(query, query);
+    @Transactional(readOnly = true)
+    public List<Destination> searchDestinations(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return withPendingRatings(searchEngine.search(query, Math.max(0, page), pageSize));
     }
 
     /**
-     * Retorna um destino específico pelo seu ID do banco de dados.
+     * Pesquisa destinos como searchDestinations, lendo apenas os campos pedidos.
+     * O mecanismo de pesquisa retorna os IDs em ordem de relevância e as colunas são lidas por projeção.
+     * @param query A string de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página (limitado entre 1 e MAX_PAGE_SIZE).
+     * @param fields Os campos pedidos (ver DestinationField.parse).
+     * @return Os destinos da página, do mais relevante para o menos relevante.
+     */
+    @Transactional(readOnly = true)
+    public List<DestinationView> searchDestinationViews(String query, int page, int size, Set<DestinationField> fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> ids = searchEngine.searchIds(query, Math.max(0, page), pageSize);
+        return withPendingRatings(destinationRepository.findViewsByIds(ids, queriedFields(fields)), fields);
+    }
+
+    /**
+     * Retorna um destino específico pelo seu ID, a partir do cache ou do banco de dados.
+     * O destino retornado é um instantâneo compartilhado e não deve ser alterado.
      * @param id O ID do destino a ser recuperado.
      * @return Um Optional contendo o destino se encontrado, ou um Optional vazio caso contrário.
      */
+    @Transactional(readOnly = true)
     public Optional<Destination> getDestinationById(Long id) {
-        return destinationRepository.findById(id);
+        return destinationCache.get(id, key -> destinationRepository.findById(key).map(Destination::new))
+                .map(this::withPendingRatings);
     }
 
     /**
      * Avalia um destino específico e recalcula sua avaliação média.
      * A avaliação deve estar entre 1 e 10.
+     * A média e o número de avaliações são atualizados atomicamente no banco de dados,
+     * sem ler e regravar a entidade, então avaliações simultâneas não se perdem.
+     * Com a escrita adiada ativa (RatingAggregator), a avaliação é gravada no próximo lote.
      * @param id O ID do destino a ser avaliado.
      * @param rating A nota de avaliação (1-10).
      * @return Um Optional contendo o destino atualizado se a avaliação for bem-sucedida,
      * ou um Optional vazio se o ID for inválido ou a avaliação estiver fora do intervalo.
      */
+    @Transactional
     public Optional<Destination> evaluateDestination(Long id, int rating) {
         if (rating < 1 || rating > 10) {
-            System.err.println("Avaliação inválida: " + rating + ". Deve estar entre 1 e 10.");
+            log.debug("Avaliação inválida: {}. Deve estar entre 1 e 10.", rating);
+            rejectedRatings.increment();
             return Optional.empty();
         }
 
-        Optional<Destination> optionalDestination = getDestinationById(id);
-        if (optionalDestination.isPresent()) {
-            Destination destination = optionalDestination.get();
-            double currentTotalRating = destination.getAverageRating() * destination.getNumberOfRatings();
-            int newNumberOfRatings = destination.getNumberOfRatings() + 1;
-            double newAverageRating = (currentTotalRating + rating) / newNumberOfRatings;
+        if (ratingAggregator.isPresent()) {
+            // Escrita adiada: a avaliação é somada em memória e gravada no próximo lote
+            Optional<Destination> destination = getDestinationById(id);
+            if (destination.isEmpty()) {
+                log.debug("Destino com ID {} não encontrado para avaliação.", id);
+                rejectedRatings.increment();
+                return Optional.empty();
+            }
+            ratingAggregator.get().submit(id, rating);
+            acceptedRatings.increment();
+            // Sem limpar o cache de respostas nem mudar a versão do catálogo: ambos mudam quando o lote é gravado
+            return getDestinationById(id);
+        }
 
-            destination.setAverageRating(newAverageRating);
-            destination.setNumberOfRatings(newNumberOfRatings);
-            
-            // Salva as alterações no banco de dados
-            return Optional.of(destinationRepository.save(destination));
+        if (destinationRepository.addRating(id, rating, Instant.now()) == 0) {
+            log.debug("Destino com ID {} não encontrado para avaliação.", id);
+            rejectedRatings.increment();
+            return Optional.empty();
         }
-        System.err.println("Destino com ID " + id + " não encontrado para avaliação.");
-        return Optional.empty();
+        catalogueStateRepository.recordChange(); // A versão do catálogo muda no mesmo commit
+        acceptedRatings.increment();
+        destinationCache.invalidate(id);
+        responseCache.invalidateAll();
+        // Relê o destino na mesma transação para devolver a média já atualizada
+        return destinationRepository.findById(id);
     }
 
     /**
@@ -99,32 +279,132 @@ public class DestinationService {
      */
     public boolean deleteDestination(Long id) {
         if (destinationRepository.existsById(id)) {
-            destinationRepository.deleteById(id);
-            System.out.println("Destino com ID " + id + " excluído com sucesso.");
+            transactionTemplate.executeWithoutResult(status -> {
+                destinationRepository.deleteById(id);
+                catalogueStateRepository.recordChange(); // A versão do catálogo muda no mesmo commit
+            });
+            searchEngine.remove(id);
+            destinationCache.invalidate(id);
+            responseCache.invalidateAll();
+            log.info("Destino com ID {} excluído com sucesso.", id);
             return true;
         }
-        System.err.println("Destino com ID " + id + " não encontrado para exclusão.");
+        log.debug("Destino com ID {} não encontrado para exclusão.", id);
         return false;
     }
 
     /**
      * Atualiza as informações de um destino existente no banco de dados.
+     * Se uma avaliação concorrente alterar a versão do destino entre a leitura e a gravação,
+     * a atualização é refeita sobre os dados mais recentes.
      * @param id O ID do destino a ser atualizado.
      * @param updatedDestination O objeto Destination com as informações atualizadas.
      * @return Um Optional contendo o destino atualizado se encontrado, ou um Optional vazio caso contrário.
      */
     public Optional<Destination> updateDestination(Long id, Destination updatedDestination) {
-        Optional<Destination> existingDestinationOpt = getDestinationById(id);
-        if (existingDestinationOpt.isPresent()) {
-            Destination existingDestination = existingDestinationOpt.get();
-            // Atualiza apenas os campos permitidos para alteração
-            existingDestination.setName(updatedDestination.getName());
-            existingDestination.setLocation(updatedDestination.getLocation());
-            existingDestination.setDescription(updatedDestination.getDescription());
-            // Salva as alterações no banco de dados
-            return Optional.of(destinationRepository.save(existingDestination));
-        }
-        System.err.println("Destino com ID " + id + " não encontrado para atualização.");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return applyUpdate(id, updatedDestination);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Optional<Destination> applyUpdate(Long id, Destination updatedDestination) {
+        // Lê direto do repositório: a entidade é alterada e salva, então não pode conter avaliações pendentes
+        Optional<Destination> savedDestinationOpt = transactionTemplate.execute(status ->
+                destinationRepository.findById(id).map(existingDestination -> {
+                    // Atualiza apenas os campos permitidos para alteração
+                    existingDestination.setName(updatedDestination.getName());
+                    existingDestination.setLocation(updatedDestination.getLocation());
+                    existingDestination.setDescription(updatedDestination.getDescription());
+                    // Grava já (verificando a versão do destino) e muda a versão do catálogo no mesmo commit
+                    Destination saved = destinationRepository.saveAndFlush(existingDestination);
+                    catalogueStateRepository.recordChange();
+                    return saved;
+                }));
+        if (savedDestinationOpt != null && savedDestinationOpt.isPresent()) {
+            Destination savedDestination = savedDestinationOpt.get();
+            searchEngine.index(savedDestination);
+            destinationCache.invalidate(id);
+            responseCache.invalidateAll();
+            return Optional.of(savedDestination);
+        }
+        log.debug("Destino com ID {} não encontrado para atualização.", id);
         return Optional.empty();
     }
+
+    /**
+     * Aplica as avaliações ainda não gravadas (escrita adiada) sobre um destino lido do banco.
+     */
+    private Destination withPendingRatings(Destination destination) {
+        return ratingAggregator.map(aggregator -> aggregator.withPendingRatings(destination)).orElse(destination);
+    }
+
+    private List<Destination> withPendingRatings(List<Destination> destinations) {
+        if (ratingAggregator.isEmpty()) {
+            return destinations;
+        }
+        return destinations.stream().map(this::withPendingRatings).collect(Collectors.toList());
+    }
+
+    /**
+     * Com a escrita adiada, média e número de avaliações são necessários juntos para aplicar as avaliações pendentes:
+     * se apenas um deles foi pedido, o outro também é consultado (e removido depois, em withPendingRatings).
+     */
+    private Set<DestinationField> queriedFields(Set<DestinationField> fields) {
+        if (ratingAggregator.isEmpty()
+                || (!fields.contains(DestinationField.AVERAGE_RATING) && !fields.contains(DestinationField.NUMBER_OF_RATINGS))) {
+            return fields;
+        }
+        Set<DestinationField> queried = EnumSet.copyOf(fields);
+        queried.add(DestinationField.AVERAGE_RATING);
+        queried.add(DestinationField.NUMBER_OF_RATINGS);
+        return queried;
+    }
+
+    private List<DestinationView> withPendingRatings(List<DestinationView> views, Set<DestinationField> fields) {
+        if (ratingAggregator.isEmpty()) {
+            return views;
+        }
+        boolean averageRating = fields.contains(DestinationField.AVERAGE_RATING);
+        boolean numberOfRatings = fields.contains(DestinationField.NUMBER_OF_RATINGS);
+        if (!averageRating && !numberOfRatings) {
+            return views;
+        }
+        for (DestinationView view : views) {
+            ratingAggregator.get().applyPendingRatings(view);
+            if (!averageRating) {
+                view.setAverageRating(null);
+            }
+            if (!numberOfRatings) {
+                view.setNumberOfRatings(null);
+            }
+        }
+        return views;
+    }
+
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Interpreta o cursor opaco da listagem.
+     * @param cursor O cursor retornado no cabeçalho X-Next-Cursor, ou null/vazio para a primeira página.
+     * @return O ID do último destino da página anterior (0 na primeira página).
+     * @throws IllegalArgumentException Se o cursor for inválido.
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) { // Inclui NumberFormatException
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
 }
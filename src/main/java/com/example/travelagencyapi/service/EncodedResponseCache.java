@@ -0,0 +1,212 @@
+// src/main/java/com/example/travelagencyapi/service/EncodedResponseCache.java
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respostas de leitura já serializadas em JSON e já comprimidas com gzip.
+ * Em um acerto, a resposta é escrita direto dos bytes guardados, sem Jackson e sem compressão.
+ *
+ * As chaves incluem a versão do catálogo (listagem) ou o total de avaliações adiadas (pesquisa), e qualquer escrita
+ * por DestinationService ou DestinationBulkService limpa o cache inteiro, exceto as avaliações da escrita adiada:
+ * essas apenas mudam as chaves, e o cache é limpo uma vez por lote gravado (RatingAggregator).
+ * O tamanho total é limitado em bytes.
+ * Com réplica de leitura, a limpeza é repetida ao fim do atraso da réplica (ver ReadYourWrites).
+ */
+@Component
+public class EncodedResponseCache {
+
+    private static final int MIN_COMPRESSED_SIZE = 1024; // Abaixo disso o gzip não compensa (igual a server.compression.min-response-size)
+
+    private final Cache<String, EncodedPayload> cache;
+    private final AtomicLong generation = new AtomicLong(); // Incrementada a cada invalidação
+    private final ObjectMapper objectMapper;
+    private final ReadYourWrites readYourWrites;
+
+    @Autowired
+    public EncodedResponseCache(@Value("${app.response-cache.maximum-bytes:33554432}") long maximumBytes,
+                                @Value("${app.response-cache.ttl-seconds:60}") long ttlSeconds,
+                                ObjectMapper objectMapper, ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.readYourWrites = readYourWrites;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, EncodedPayload payload) -> payload.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // Limita o tempo de respostas antigas vindas de outras instâncias
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responses");
+    }
+
+    /**
+     * Retorna a resposta codificada em cache ou a monta com a função informada.
+     * A montagem roda fora dos locks do cache (como em CacheLoads): duas requisições simultâneas podem montar
+     * a mesma resposta, mas nenhuma fica bloqueada pela outra. Uma resposta montada durante uma invalidação
+     * é devolvida, mas não guardada. Leituras fixadas no primário (ReadYourWrites) montam a resposta sem usar o cache.
+     * @param key A chave (deve conter todos os parâmetros que alteram a resposta).
+     * @param encoder Monta a resposta (ex: consulta e encode).
+     * @return A resposta codificada.
+     */
+    public EncodedPayload getOrEncode(String key, Supplier<EncodedPayload> encoder) {
+        if (ReadYourWrites.isPrimaryPinned()) {
+            return encoder.get();
+        }
+        EncodedPayload cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startGeneration = generation.get();
+        EncodedPayload payload = encoder.get();
+        if (generation.get() == startGeneration) {
+            cache.put(key, payload);
+            if (generation.get() != startGeneration) {
+                cache.asMap().remove(key, payload); // Invalidado entre a verificação e o put
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * Serializa uma lista em JSON e, se valer a pena, também a comprime com gzip.
+     * @param items Os itens da resposta.
+     * @param headers Cabeçalhos adicionais da resposta (ex: cursor da próxima página).
+     * @return A resposta codificada.
+     */
+    public EncodedPayload encode(Collection<?> items, HttpHeaders headers) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items);
+            return new EncodedPayload(json, json.length >= MIN_COMPRESSED_SIZE ? gzip(json) : null, items.size(), headers);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove todas as respostas do cache. Dentro de uma transação, remove de novo após o commit,
+     * para que uma leitura concorrente não guarde dados anteriores à escrita.
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                    readYourWrites.afterReplicaLag(EncodedResponseCache.this::clear);
+                }
+            });
+        } else {
+            readYourWrites.afterReplicaLag(this::clear);
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Verifica se o cliente aceita gzip no cabeçalho Accept-Encoding (ex: "gzip, deflate, br" ou "*").
+     * @param acceptEncoding O valor do cabeçalho, ou null.
+     * @return true se gzip for aceito (qualidade maior que zero).
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = compressed.toByteArray();
+        return bytes.length < json.length ? bytes : null;
+    }
+
+    /**
+     * Uma resposta em JSON, com a variante comprimida (se houver) e os cabeçalhos próprios.
+     */
+    public static final class EncodedPayload {
+        private final byte[] json;
+        private final byte[] gzip; // null se a resposta for pequena demais para comprimir
+        private final int itemCount;
+        private final HttpHeaders headers;
+
+        EncodedPayload(byte[] json, byte[] gzip, int itemCount, HttpHeaders headers) {
+            this.json = json;
+            this.gzip = gzip;
+            this.itemCount = itemCount;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        /**
+         * @param acceptsGzip Se o cliente aceita gzip (ver EncodedResponseCache.acceptsGzip).
+         * @return A resposta 200 com os bytes prontos (comprimidos, se aceito e disponível).
+         */
+        public ResponseEntity<byte[]> toResponse(boolean acceptsGzip) {
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.addAll(headers);
+            responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+            responseHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip && gzip != null) {
+                responseHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip"); // O Tomcat não comprime de novo
+                return ResponseEntity.ok().headers(responseHeaders).body(gzip);
+            }
+            return ResponseEntity.ok().headers(responseHeaders).body(json);
+        }
+
+        int weight() {
+            long bytes = (long) json.length + (gzip == null ? 0 : gzip.length);
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+// src/main/java/com/example/travelagencyapi/service/RatingAggregator.java
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.dto.DestinationView;
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.CatalogueStateRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agregador de avaliações com escrita adiada (write-behind).
+ * As avaliações são somadas em memória por destino e gravadas na tabela destinations em lotes JDBC,
+ * quando o número de avaliações pendentes atinge o tamanho do lote ou a cada intervalo de tempo.
+ *
+ * Soma e contagem de cada destino ficam empacotadas em um único LongAdder (soma nos 32 bits altos,
+ * contagem nos 32 bits baixos), então uma avaliação é um único incremento sem bloqueio entre threads.
+ * As avaliações são acumuladas em épocas: a gravação troca a época atual por uma nova (por referência,
+ * sem bloqueio global) e grava as anteriores depois que as avaliações em andamento nelas terminam.
+ *
+ * Opcionalmente, cada avaliação é registrada em um log local somente-anexação antes de ser aceita
+ * (um segmento numerado por época), e avaliações não gravadas são recuperadas desse log após uma queda.
+ * O número do último segmento gravado fica em rating_journal_state, atualizado na mesma transação do lote,
+ * então a recuperação não aplica de novo um segmento cujo lote já foi gravado.
+ *
+ * Ativado com app.rating.write-behind.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rating.write-behind", name = "enabled", havingValue = "true")
+@DependsOn("entityManagerFactory") // A recuperação consulta rating_journal_state: o schema precisa existir antes
+public class RatingAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingAggregator.class);
+
+    private static final String FLUSH_SQL = "UPDATE destinations SET "
+            + "average_rating = (average_rating * number_of_ratings + ?) / (number_of_ratings + ?), "
+            + "number_of_ratings = number_of_ratings + ?, "
+            + "version = version + 1, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE id = ?";
+    private static final String FLUSHED_SEGMENT_SQL =
+            "SELECT last_flushed_segment FROM rating_journal_state WHERE journal_id = ?";
+    private static final String UPDATE_FLUSHED_SEGMENT_SQL =
+            "UPDATE rating_journal_state SET last_flushed_segment = ? WHERE journal_id = ?";
+    private static final String INSERT_FLUSHED_SEGMENT_SQL =
+            "INSERT INTO rating_journal_state (journal_id, last_flushed_segment) VALUES (?, ?)";
+    private static final int COUNT_BITS = 32;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String ID_SUFFIX = ".id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogueStateRepository catalogueStateRepository; // A versão do catálogo muda uma vez por lote gravado
+    private final TaskExecutor flushExecutor; // Executa as gravações disparadas pelo tamanho do lote
+    private final DestinationCache destinationCache; // Destinos gravados em lote deixam de valer no cache
+    private final EncodedResponseCache responseCache; // Limpo uma vez por lote gravado, e não a cada avaliação
+    private final int batchSize;
+    private final Path journalPath; // null quando o log de durabilidade está desativado
+    private final boolean journalSync;
+    private final Timer flushTimer; // Duração de cada gravação em lote
+    private final Timer failedFlushTimer;
+    private final DistributionSummary flushedRatings; // Avaliações gravadas por lote
+
+    // Época que aceita avaliações e épocas fechadas ainda não gravadas; trocado apenas pela gravação (sob o flushLock)
+    private final AtomicReference<State> state = new AtomicReference<>(new State(new Epoch(0, null, null), List.of()));
+    private final LongAdder pendingRatings = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock(); // Apenas uma gravação por vez
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private String journalId; // Chave do log em rating_journal_state (null sem log)
+    private long nextSegment = 1; // Protegido pelo flushLock
+
+    @Autowired
+    public RatingAggregator(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            CatalogueStateRepository catalogueStateRepository,
+                            @Qualifier("applicationTaskExecutor") TaskExecutor flushExecutor,
+                            DestinationCache destinationCache,
+                            EncodedResponseCache responseCache,
+                            @Value("${app.rating.write-behind.batch-size:1000}") int batchSize,
+                            @Value("${app.rating.write-behind.journal:}") String journal,
+                            @Value("${app.rating.write-behind.journal-fsync:false}") boolean journalSync,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.catalogueStateRepository = catalogueStateRepository;
+        this.flushExecutor = flushExecutor;
+        this.destinationCache = destinationCache;
+        this.responseCache = responseCache;
+        this.batchSize = batchSize;
+        this.journalPath = journal == null || journal.isBlank() ? null : Paths.get(journal).toAbsolutePath();
+        this.journalSync = journalSync;
+        this.flushTimer = flushTimer(meterRegistry, "success");
+        this.failedFlushTimer = flushTimer(meterRegistry, "failure");
+        this.flushedRatings = DistributionSummary.builder("rating.write-behind.batch.ratings")
+                .description("Avaliações gravadas por lote")
+                .register(meterRegistry);
+        Gauge.builder("rating.write-behind.pending", pendingRatings, LongAdder::sum)
+                .description("Avaliações aceitas e ainda não gravadas no banco")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Recupera as avaliações registradas no log e ainda não gravadas (ex: após uma queda) e abre um novo segmento.
+     * Segmentos até o último gravado no banco são apenas removidos: o lote deles já foi gravado,
+     * e a queda ocorreu antes da remoção dos arquivos.
+     * @throws IOException Se o log não puder ser lido ou criado.
+     */
+    @PostConstruct
+    public void recover() throws IOException {
+        if (journalPath == null) {
+            return;
+        }
+        Files.createDirectories(journalPath.getParent());
+        journalId = readOrCreateJournalId();
+        long lastFlushed = jdbcTemplate.query(FLUSHED_SEGMENT_SQL, rs -> rs.next() ? rs.getLong(1) : 0L, journalId);
+
+        List<Epoch> recovered = new ArrayList<>();
+        long lastSegment = lastFlushed;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(journalPath.getParent(),
+                journalPath.getFileName() + ".*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                long segment = segmentOf(file);
+                if (segment <= 0) {
+                    continue; // Não é um segmento deste log
+                }
+                lastSegment = Math.max(lastSegment, segment);
+                Epoch epoch = new Epoch(segment, file, null);
+                if (segment > lastFlushed) {
+                    replay(file, epoch);
+                }
+                if (epoch.ratings.isEmpty()) {
+                    deleteQuietly(file); // Já gravado, ou sem avaliações
+                } else {
+                    recovered.add(epoch);
+                }
+            }
+        }
+        recovered.sort(Comparator.comparingLong(epoch -> epoch.segment));
+        nextSegment = lastSegment + 1;
+        state.set(new State(openEpoch(), List.copyOf(recovered)));
+    }
+
+    /**
+     * Aceita uma avaliação. Ela é gravada no banco no próximo lote.
+     * @param id O ID do destino avaliado (deve existir).
+     * @param rating A nota de avaliação (1-10).
+     */
+    public void submit(Long id, int rating) {
+        while (true) {
+            Epoch epoch = state.get().current;
+            epoch.entered.increment();
+            try {
+                // Trocada entre a leitura e a entrada: a gravação pode já ter lido esta época sem esperar por nós
+                if (state.get().current != epoch) {
+                    continue;
+                }
+                appendToJournal(epoch, id, rating);
+                epoch.ratings.computeIfAbsent(id, key -> new LongAdder()).add(pack(rating, 1));
+                break;
+            } finally {
+                epoch.exited.increment();
+            }
+        }
+        pendingRatings.increment();
+        if (pendingRatings.sum() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Aplica as avaliações pendentes de um destino sobre os dados lidos do banco,
+     * para que o cliente veja a própria avaliação antes da gravação do lote.
+     * @param destination O destino como está no banco de dados.
+     * @return Uma cópia com média e contagem atualizadas, ou o próprio destino se não houver avaliações pendentes.
+     */
+    public Destination withPendingRatings(Destination destination) {
+        long packed = pendingFor(destination.getId());
+        if (packed == 0) {
+            return destination;
+        }
+        long sum = packed >>> COUNT_BITS;
+        long count = packed & COUNT_MASK;
+        long totalRatings = destination.getNumberOfRatings() + count;
+
+        Destination view = new Destination(destination);
+        view.setAverageRating((destination.getAverageRating() * destination.getNumberOfRatings() + sum) / totalRatings);
+        view.setNumberOfRatings((int) totalRatings);
+        return view;
+    }
+
+    /**
+     * Aplica as avaliações pendentes sobre uma projeção com média e número de avaliações.
+     * @param view A projeção lida do banco de dados; é alterada no lugar.
+     */
+    public void applyPendingRatings(DestinationView view) {
+        long packed = pendingFor(view.getId());
+        if (packed == 0 || view.getAverageRating() == null || view.getNumberOfRatings() == null) {
+            return;
+        }
+        long sum = packed >>> COUNT_BITS;
+        long count = packed & COUNT_MASK;
+        long totalRatings = view.getNumberOfRatings() + count;
+        view.setAverageRating((view.getAverageRating() * view.getNumberOfRatings() + sum) / totalRatings);
+        view.setNumberOfRatings((int) totalRatings);
+    }
+
+    /**
+     * Grava no banco, em um único lote JDBC, todas as avaliações pendentes.
+     * Executado periodicamente e sempre que o número de avaliações pendentes atinge o tamanho do lote.
+     * Se a gravação falhar, as épocas continuam pendentes e são gravadas com as seguintes no próximo lote.
+     */
+    @Scheduled(fixedDelayString = "${app.rating.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            State current = state.get();
+            if (!current.current.ratings.isEmpty()) {
+                // Novas avaliações vão para a nova época; a anterior continua visível como não gravada
+                Epoch closed = current.current;
+                List<Epoch> unflushed = new ArrayList<>(current.unflushed);
+                unflushed.add(closed);
+                state.set(new State(openEpoch(), List.copyOf(unflushed)));
+                awaitQuiescence(closed);
+                closeJournal(closed);
+            }
+            List<Epoch> batchEpochs = state.get().unflushed;
+            if (batchEpochs.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Long> batch = new HashMap<>();
+            batchEpochs.forEach(epoch -> epoch.ratings.forEach((id, ratings) -> batch.merge(id, ratings.sum(), Long::sum)));
+            long lastSegment = batchEpochs.get(batchEpochs.size() - 1).segment;
+
+            long startNanos = System.nanoTime();
+            try {
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                long[] ratings = {0};
+                batch.forEach((id, packed) -> {
+                    long count = packed & COUNT_MASK;
+                    ratings[0] += count;
+                    rows.add(new Object[]{packed >>> COUNT_BITS, count, count, id});
+                });
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, rows);
+                    catalogueStateRepository.recordChange();
+                    markFlushed(lastSegment); // Mesma transação: lote gravado e segmentos descartáveis, ou nenhum dos dois
+                });
+                flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                flushedRatings.record(ratings[0]);
+
+                // Logo após o commit, as épocas gravadas saem das leituras e os destinos saem do cache
+                // (com réplica, DestinationCache remove de novo ao fim do atraso da réplica).
+                // Uma leitura que obteve o estado antes desta troca e leu a linha depois do commit soma o lote duas vezes,
+                // mas só o devolve: a remoção do cache abaixo descarta o que ela tiver guardado
+                state.set(new State(state.get().current, List.of()));
+                pendingRatings.add(-ratings[0]);
+                batch.keySet().forEach(destinationCache::invalidate);
+                responseCache.invalidateAll();
+
+                batchEpochs.forEach(epoch -> deleteQuietly(epoch.file));
+            } catch (RuntimeException e) {
+                failedFlushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                log.warn("Falha ao gravar lote de {} destinos avaliados; nova tentativa no próximo lote.", batch.size(), e);
+                // As épocas continuam não gravadas (e visíveis uma única vez nas leituras) e no gauge de pendentes
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Grava as avaliações pendentes e fecha o log ao encerrar a aplicação.
+     * @throws IOException Se o log não puder ser fechado.
+     */
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flush();
+        FileChannel journal = state.get().current.journal;
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private static Timer flushTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("rating.write-behind.flush")
+                .description("Duração das gravações em lote de avaliações")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private long pendingFor(Long id) {
+        State snapshot = state.get(); // Uma única leitura: época atual e não gravadas consistentes entre si
+        long packed = snapshot.current.pendingFor(id);
+        for (Epoch epoch : snapshot.unflushed) {
+            packed += epoch.pendingFor(id);
+        }
+        return packed;
+    }
+
+    private static long pack(long sum, long count) {
+        return (sum << COUNT_BITS) | count;
+    }
+
+    /**
+     * Espera as avaliações que entraram na época antes da troca terminarem. Cada uma ocupa a época apenas
+     * durante a escrita no log e um incremento, então a espera é curta (sem fsync, alguns microssegundos).
+     * A saída é lida antes da entrada: se as duas somas coincidem, nenhuma avaliação estava dentro da época.
+     */
+    private static void awaitQuiescence(Epoch epoch) {
+        while (true) {
+            long exited = epoch.exited.sum();
+            if (exited == epoch.entered.sum()) {
+                return;
+            }
+            Thread.yield();
+        }
+    }
+
+    private void appendToJournal(Epoch epoch, Long id, int rating) {
+        if (epoch.journal == null) {
+            return;
+        }
+        try {
+            epoch.journal.write(ByteBuffer.wrap((id + "," + rating + "\n").getBytes(StandardCharsets.US_ASCII)));
+            if (journalSync) {
+                epoch.journal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível registrar a avaliação no log", e);
+        }
+    }
+
+    private void markFlushed(long segment) {
+        if (journalId == null) {
+            return;
+        }
+        if (jdbcTemplate.update(UPDATE_FLUSHED_SEGMENT_SQL, segment, journalId) == 0) {
+            jdbcTemplate.update(INSERT_FLUSHED_SEGMENT_SQL, journalId, segment);
+        }
+    }
+
+    /**
+     * Cria a época que passa a aceitar avaliações, com um novo segmento do log. Chamado com o flushLock.
+     */
+    private Epoch openEpoch() {
+        if (journalPath == null) {
+            return new Epoch(0, null, null);
+        }
+        long segment = nextSegment++;
+        Path file = journalPath.resolveSibling(journalPath.getFileName() + "." + segment + SEGMENT_SUFFIX);
+        try {
+            return new Epoch(segment, file, FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o segmento do log de avaliações", e);
+        }
+    }
+
+    private static void closeJournal(Epoch epoch) {
+        if (epoch.journal == null) {
+            return;
+        }
+        try {
+            epoch.journal.close();
+        } catch (IOException e) {
+            log.warn("Não foi possível fechar o log de avaliações {}: {}", epoch.file, e.getMessage());
+        }
+    }
+
+    /**
+     * Identificador do log em rating_journal_state, gerado na primeira execução e guardado ao lado do log:
+     * não depende do nome da máquina, e cada instância com o próprio log tem o próprio marcador.
+     */
+    private String readOrCreateJournalId() throws IOException {
+        Path idFile = journalPath.resolveSibling(journalPath.getFileName() + ID_SUFFIX);
+        if (Files.exists(idFile)) {
+            return Files.readString(idFile, StandardCharsets.US_ASCII).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(idFile, id, StandardCharsets.US_ASCII, StandardOpenOption.CREATE_NEW);
+        return id;
+    }
+
+    private long segmentOf(Path file) {
+        String name = file.getFileName().toString();
+        String prefix = journalPath.getFileName() + ".";
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private void replay(Path file, Epoch epoch) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                if (fields.length != 2) {
+                    continue; // Linha incompleta (escrita interrompida por uma queda)
+                }
+                try {
+                    epoch.ratings.computeIfAbsent(Long.parseLong(fields[0]), key -> new LongAdder())
+                            .add(pack(Integer.parseInt(fields[1]), 1));
+                    pendingRatings.increment();
+                } catch (NumberFormatException e) {
+                    // Linha corrompida: ignorada
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o log de avaliações {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Avaliações aceitas entre duas trocas, com o segmento do log em que foram registradas.
+     */
+    private static final class Epoch {
+        private final long segment; // 0 sem log
+        private final Path file; // null sem log
+        private final FileChannel journal; // null sem log, ou se recuperada de uma execução anterior
+        private final Map<Long, LongAdder> ratings = new ConcurrentHashMap<>(); // id -> soma e contagem empacotadas
+        private final LongAdder entered = new LongAdder(); // Avaliações que entraram na época
+        private final LongAdder exited = new LongAdder(); // E que já terminaram
+
+        private Epoch(long segment, Path file, FileChannel journal) {
+            this.segment = segment;
+            this.file = file;
+            this.journal = journal;
+        }
+
+        private long pendingFor(Long id) {
+            LongAdder adder = ratings.get(id);
+            return adder == null ? 0L : adder.sum();
+        }
+    }
+
+    /**
+     * Estado imutável trocado por referência: a época que aceita avaliações e as fechadas ainda não gravadas, em ordem.
+     */
+    private static final class State {
+        private final Epoch current;
+        private final List<Epoch> unflushed;
+
+        private State(Epoch current, List<Epoch> unflushed) {
+            this.current = current;
+            this.unflushed = unflushed;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// src/main/java/com/example/travelagencyapi/service/ReactiveDestinationService.java
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.ReactiveDestinationRepository;
+import com.example.travelagencyapi.service.search.PostgresDestinationSearchEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Camada de serviço da API reativa de leitura de destinos.
+ * Nenhum método bloqueia: os resultados são publicados conforme o assinante (a resposta HTTP) pede mais itens,
+ * então a memória por requisição não depende do tamanho do resultado.
+ * Como em DestinationService, as avaliações pendentes da escrita adiada são aplicadas sobre os dados do banco.
+ */
+@Service
+public class ReactiveDestinationService {
+
+    private final ReactiveDestinationRepository destinationRepository;
+    private final Optional<RatingAggregator> ratingAggregator; // Presente apenas com a escrita adiada de avaliações ativa
+
+    @Autowired
+    public ReactiveDestinationService(ReactiveDestinationRepository destinationRepository,
+                                      Optional<RatingAggregator> ratingAggregator) {
+        this.destinationRepository = destinationRepository;
+        this.ratingAggregator = ratingAggregator;
+    }
+
+    /**
+     * @return Todos os destinos, em ordem crescente de id.
+     */
+    public Flux<Destination> streamAllDestinations() {
+        return withPendingRatings(destinationRepository.findAllOrderedById());
+    }
+
+    /**
+     * @param id O ID do destino.
+     * @return O destino, ou vazio se ele não existir.
+     */
+    public Mono<Destination> getDestinationById(Long id) {
+        return destinationRepository.findById(id).map(this::withPendingRatings);
+    }
+
+    /**
+     * Pesquisa destinos por nome, localização ou descrição.
+     * No PostgreSQL a ordem é por relevância (mesma consulta de PostgresDestinationSearchEngine);
+     * nos demais bancos, por trecho contido, em ordem de id.
+     * @param query O termo de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página (limitado entre 1 e DestinationService.MAX_PAGE_SIZE).
+     * @return Os destinos da página solicitada.
+     */
+    public Flux<Destination> searchDestinations(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, DestinationService.MAX_PAGE_SIZE));
+        long offset = (long) Math.max(0, page) * pageSize;
+        String trimmed = query.trim();
+        if (trimmed.isEmpty()) {
+            return Flux.empty();
+        }
+        if (!destinationRepository.supportsFullTextSearch()) {
+            return withPendingRatings(destinationRepository.searchContaining(trimmed, pageSize, offset));
+        }
+        String prefixQuery = PostgresDestinationSearchEngine.toPrefixTsQuery(trimmed);
+        if (prefixQuery.isEmpty()) {
+            return Flux.empty();
+        }
+        return withPendingRatings(destinationRepository.searchFullText(trimmed, prefixQuery, pageSize, offset));
+    }
+
+    private Destination withPendingRatings(Destination destination) {
+        return ratingAggregator.map(aggregator -> aggregator.withPendingRatings(destination)).orElse(destination);
+    }
+
+    private Flux<Destination> withPendingRatings(Flux<Destination> destinations) {
+        return ratingAggregator.isEmpty() ? destinations : destinations.map(this::withPendingRatings);
+    }
+}
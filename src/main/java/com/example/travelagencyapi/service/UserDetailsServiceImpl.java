@@ -2,41 +2,133 @@
 package com.example.travelagencyapi.service.security;
 
 import com.example.travelagencyapi.model.security.User;
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
 import com.example.travelagencyapi.repository.security.UserRepository;
+import com.example.travelagencyapi.service.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementação do UserDetailsService do Spring Security.
  * Responsável por carregar os detalhes do usuário do banco de dados para o processo de autenticação.
+ *
+ * Os usuários carregados ficam em um cache limitado por tamanho e com expiração, evitando a consulta
+ * (com junção em user_roles e roles) a cada requisição autenticada.
+ * O tempo de cada carga é medido no timer auth.user.load, com a tag source ("cache" ou "database").
+ * Com réplica de leitura, a carga vai à réplica (UserRepository.readByUsername é somente leitura).
+ *
+ * Como UserDetailsPasswordService, regrava o hash da senha quando o DaoAuthenticationProvider indica, após um
+ * login bem-sucedido, que ele usa outro algoritmo ou outro custo (ver SecurityConfig.passwordEncoder).
  */
 @Service // Indica que esta classe é um componente de serviço gerenciado pelo Spring.
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository; // Injeção de dependência do repositório de usuários
+    private final AsyncCache<String, User> userCache; // Cache de usuários por nome de usuário (carga fora do lock do mapa, ver CacheLoads)
+    private final Timer cacheLoadTimer;
+    private final Timer databaseLoadTimer;
+    private final ReadYourWrites readYourWrites;
 
     @Autowired // Injeta o UserRepository via construtor
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${app.security.user-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds,
+                                  ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.readYourWrites = readYourWrites;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats() // Taxa de acertos, tempo de carga e remoções
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache.synchronous(), "users");
+        this.cacheLoadTimer = loadTimer(meterRegistry, "cache");
+        this.databaseLoadTimer = loadTimer(meterRegistry, "database");
     }
 
     /**
      * Carrega os detalhes do usuário pelo nome de usuário.
      * Este método é chamado pelo Spring Security durante o processo de autenticação.
+     * Requisições simultâneas para o mesmo usuário ausente do cache resultam em uma única consulta ao banco.
      * @param username O nome de usuário para carregar.
      * @return Um objeto UserDetails contendo os detalhes do usuário.
      * @throws UsernameNotFoundException Se o usuário não for encontrado.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Busca o usuário no banco de dados usando o UserRepository
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
-        
-        // Retorna o objeto User (que implementa UserDetails)
-        return user;
+        // Busca o usuário no cache ou, na ausência, no banco de dados usando o UserRepository
+        // Usuários inexistentes não são armazenados: a exceção é propagada a cada tentativa
+        long startNanos = System.nanoTime();
+        boolean[] loadedFromDatabase = {false};
+        try {
+            return CacheLoads.getOrLoad(userCache, username, key -> {
+                loadedFromDatabase[0] = true;
+                User user = userRepository.readByUsername(key)
+                        .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + key));
+                user.getAuthorities(); // Resolvidas uma vez, antes de o usuário ser compartilhado pelo cache
+                return user;
+            });
+        } finally {
+            (loadedFromDatabase[0] ? databaseLoadTimer : cacheLoadTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Grava o novo hash da senha de um usuário que acabou de se autenticar.
+     * A instância recebida pode estar no cache e é compartilhada, então o usuário é relido e alterado no banco.
+     * @param user O usuário autenticado.
+     * @param newPassword O novo hash, já codificado com o algoritmo e o custo atuais.
+     * @return O usuário com o hash atualizado.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + user.getUsername()));
+        stored.setPassword(newPassword);
+        User saved = userRepository.save(stored);
+        evict(user.getUsername());
+        return saved;
+    }
+
+    /**
+     * Remove um usuário do cache.
+     * Deve ser chamado sempre que o usuário (senha ou papéis) for gravado.
+     * Com réplica de leitura, a remoção é repetida ao fim do atraso da réplica.
+     * @param username O nome de usuário a ser removido do cache.
+     */
+    public void evict(String username) {
+        userCache.synchronous().invalidate(username);
+        readYourWrites.afterReplicaLag(() -> userCache.synchronous().invalidate(username));
+    }
+
+    /**
+     * @return As estatísticas do cache de usuários (acertos, tempo de carga e remoções).
+     */
+    public CacheStats getCacheStats() {
+        return userCache.synchronous().stats();
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("auth.user.load")
+                .description("Tempo de carga do usuário durante a autenticação")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -5,6 +5,9 @@ import com.example.travelagencyapi.model.security.Role;
 import com.example.travelagencyapi.model.security.User;
 import com.example.travelagencyapi.repository.security.RoleRepository;
 import com.example.travelagencyapi.repository.security.UserRepository;
+import com.example.travelagencyapi.service.security.CachingAuthenticationProvider;
+import com.example.travelagencyapi.service.security.PasswordHashingRejectedException;
+import com.example.travelagencyapi.service.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,6 +15,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -27,16 +33,22 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager; // Usado para autenticar o usuário após o registro
+    private final CachingAuthenticationProvider authenticationProvider; // Cache de credenciais a invalidar em alterações
+    private final UserDetailsServiceImpl userDetailsService; // Cache de usuários a invalidar em alterações
 
     @Autowired
     public AuthService(UserRepository userRepository,
                        RoleRepository roleRepository,
                        PasswordEncoder passwordEncoder,
-                       AuthenticationManager authenticationManager) {
+                       AuthenticationManager authenticationManager,
+                       CachingAuthenticationProvider authenticationProvider,
+                       UserDetailsServiceImpl userDetailsService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.authenticationProvider = authenticationProvider;
+        this.userDetailsService = userDetailsService;
     }
 
     /**
@@ -46,7 +58,9 @@ public class AuthService {
      * @param roleName O nome do papel (ex: "ROLE_USER", "ROLE_ADMIN").
      * @return O usuário registrado.
      * @throws RuntimeException Se o nome de usuário já existir ou o papel não for encontrado.
+     * @throws PasswordHashingRejectedException Se o executor de hashing estiver saturado.
      */
+    @Transactional // A verificação de duplicidade e a gravação leem do primário, nunca da réplica
     public User registerUser(String username, String password, String roleName) {
         // Verifica se o usuário já existe
         if (userRepository.findByUsername(username).isPresent()) {
@@ -54,18 +68,54 @@ public class AuthService {
         }
 
         // Busca ou cria o papel
-        Role role = roleRepository.findByName(roleName)
-                .orElseGet(() -> {
-                    Role newRole = new Role(roleName);
-                    return roleRepository.save(newRole);
-                });
+        Role role = findOrCreateRole(roleName);
 
         User user = new User();
         user.setUsername(username);
         user.setPassword(passwordEncoder.encode(password)); // Codifica a senha
         user.setRoles(new HashSet<>(Collections.singletonList(role))); // Atribui o papel
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        evictCachedUser(username);
+        return savedUser;
+    }
+
+    /**
+     * Altera a senha de um usuário existente.
+     * As credenciais em cache do usuário são invalidadas, então a senha antiga deixa de ser aceita imediatamente.
+     * @param username O nome de usuário.
+     * @param newPassword A nova senha (será codificada).
+     * @return O usuário atualizado.
+     * @throws RuntimeException Se o usuário não for encontrado.
+     */
+    @Transactional // Lê o usuário do primário: uma linha atrasada da réplica sobrescreveria os papéis
+    public User changePassword(String username, String newPassword) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado!"));
+        user.setPassword(passwordEncoder.encode(newPassword)); // Codifica a nova senha
+
+        User savedUser = userRepository.save(user);
+        evictCachedUser(username);
+        return savedUser;
+    }
+
+    /**
+     * Substitui o papel de um usuário existente.
+     * As credenciais em cache do usuário são invalidadas para que as novas autoridades valham na próxima requisição.
+     * @param username O nome de usuário.
+     * @param roleName O nome do novo papel (ex: "ROLE_USER", "ROLE_ADMIN").
+     * @return O usuário atualizado.
+     * @throws RuntimeException Se o usuário não for encontrado.
+     */
+    @Transactional // Lê o usuário do primário: uma linha atrasada da réplica sobrescreveria a senha
+    public User changeRole(String username, String roleName) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado!"));
+        user.setRoles(new HashSet<>(Collections.singletonList(findOrCreateRole(roleName))));
+
+        User savedUser = userRepository.save(user);
+        evictCachedUser(username);
+        return savedUser;
     }
 
     /**
@@ -74,6 +124,7 @@ public class AuthService {
      * @param password A senha.
      * @return O objeto Authentication se a autenticação for bem-sucedida.
      * @throws RuntimeException Se a autenticação falhar.
+     * @throws PasswordHashingRejectedException Se o executor de hashing estiver saturado (a senha não foi verificada).
      */
     public Authentication authenticateUser(String username, String password) {
         try {
@@ -82,8 +133,40 @@ public class AuthService {
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
             return authentication;
+        } catch (PasswordHashingRejectedException e) {
+            throw e; // Não é falha de credenciais: o controlador responde 429
         } catch (Exception e) {
             throw new RuntimeException("Falha na autenticação: " + e.getMessage());
         }
     }
+
+    /**
+     * Busca um papel pelo nome, criando-o caso ainda não exista.
+     */
+    private Role findOrCreateRole(String roleName) {
+        return roleRepository.findByName(roleName)
+                .orElseGet(() -> {
+                    Role newRole = new Role(roleName);
+                    return roleRepository.save(newRole);
+                });
+    }
+
+    /**
+     * Invalida tudo o que estiver em cache sobre o usuário após uma escrita.
+     * A invalidação é repetida após o commit: uma autenticação concorrente poderia recarregar o usuário
+     * ainda sem a alteração entre a primeira invalidação e o commit.
+     */
+    private void evictCachedUser(String username) {
+        userDetailsService.evict(username);
+        authenticationProvider.evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsService.evict(username);
+                    authenticationProvider.evict(username);
+                }
+            });
+        }
+    }
 }
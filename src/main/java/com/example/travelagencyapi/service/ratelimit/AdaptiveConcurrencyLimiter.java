@@ -0,0 +1,82 @@
+// src/main/java/com/example/travelagencyapi/service/ratelimit/AdaptiveConcurrencyLimiter.java
+package com.example.travelagencyapi.service.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite adaptativo de requisições simultâneas (AIMD), usado para descartar carga antes que a fila cresça.
+ * Enquanto as requisições terminam dentro do SLO de latência e o limite está sendo usado, ele cresce de 1 em 1;
+ * quando uma requisição passa do SLO, ele é reduzido a uma fração (no máximo uma vez por intervalo de SLO,
+ * para que uma leva de requisições lentas não o derrube de uma vez). Acima do limite, tryAcquire recusa na hora.
+ *
+ * Tudo é mantido em contadores atômicos, sem locks.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencySloNanos;
+
+    /**
+     * @param initialLimit O limite inicial de requisições simultâneas.
+     * @param minLimit O menor limite (garante algum progresso mesmo com o sistema lento).
+     * @param maxLimit O maior limite.
+     * @param latencySloMillis A latência máxima esperada de uma requisição.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencySloMillis) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = new AtomicInteger(Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit)));
+        this.latencySloNanos = TimeUnit.MILLISECONDS.toNanos(latencySloMillis);
+    }
+
+    /**
+     * @return true se a requisição pode prosseguir; nesse caso release deve ser chamado ao final.
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Libera a vaga da requisição e ajusta o limite pela latência observada.
+     * @param latencyNanos A duração da requisição.
+     */
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (latencyNanos > latencySloNanos) {
+            long now = System.nanoTime();
+            long last = lastDecreaseNanos.get();
+            if (now - last >= latencySloNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * BACKOFF_RATIO)));
+            }
+        } else if (inFlightBefore * 2 >= limit.get()) {
+            // Só cresce quando o limite está de fato sendo usado, para não inflar em períodos ociosos
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * @return O limite atual de requisições simultâneas.
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return O número de requisições em andamento.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/example/travelagencyapi/service/ratelimit/RateLimiter.java
+package com.example.travelagencyapi.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de taxa por chave (ex: rota + cliente) no algoritmo GCRA, equivalente a um balde de fichas.
+ * Em vez de fichas e um horário de reposição, cada balde guarda um único long: o instante teórico de chegada (TAT)
+ * da próxima requisição. Uma requisição é aceita se, somando um intervalo de emissão ao TAT, ele não passar do
+ * instante atual mais a tolerância da rajada. O TAT é atualizado com compareAndSet, sem locks por requisição.
+ *
+ * Os baldes ficam em um cache limitado; um balde sem uso por IDLE_EXPIRY é descartado (o cliente volta com a rajada cheia).
+ */
+public class RateLimiter {
+
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+
+    private final Cache<String, AtomicLong> buckets;
+    private final long originNanos = System.nanoTime(); // Os instantes são relativos a este, sempre positivos
+
+    /**
+     * @param maxKeys O número máximo de baldes mantidos em memória.
+     */
+    public RateLimiter(long maxKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(IDLE_EXPIRY)
+                .build();
+    }
+
+    /**
+     * Tenta consumir uma requisição do balde da chave.
+     * @param key Identifica o balde (ex: rota e cliente).
+     * @param limit O limite do balde.
+     * @return 0 se a requisição foi aceita, ou quantos nanossegundos faltam para a próxima ser aceita.
+     */
+    public long tryAcquire(String key, Limit limit) {
+        AtomicLong theoreticalArrival = buckets.get(key, ignored -> new AtomicLong());
+        long now = System.nanoTime() - originNanos;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + limit.emissionIntervalNanos;
+            long waitNanos = next - now - limit.burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos; // Recusada: o TAT não muda
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return O número de baldes em memória (aproximado).
+     */
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Taxa sustentada e rajada de um balde, convertidas para os intervalos usados pelo GCRA.
+     */
+    public static final class Limit {
+
+        private final long emissionIntervalNanos; // Intervalo entre requisições na taxa sustentada
+        private final long burstToleranceNanos; // Quanto o TAT pode se adiantar ao instante atual
+
+        /**
+         * @param requestsPerSecond A taxa sustentada (maior que 0).
+         * @param burst Quantas requisições podem chegar de uma vez (pelo menos 1).
+         */
+        public Limit(double requestsPerSecond, int burst) {
+            if (requestsPerSecond <= 0) {
+                throw new IllegalArgumentException("requestsPerSecond deve ser maior que 0");
+            }
+            this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+            this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        }
+    }
+}
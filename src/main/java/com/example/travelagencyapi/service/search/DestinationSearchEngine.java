@@ -0,0 +1,48 @@
+// src/main/java/com/example/travelagencyapi/service/search/DestinationSearchEngine.java
+package com.example.travelagencyapi.service.search;
+
+import com.example.travelagencyapi.model.Destination;
+
+import java.util.List;
+
+/**
+ * Mecanismo de pesquisa textual de destinos (nome, localização e descrição).
+ * A implementação é escolhida pela propriedade app.search.engine:
+ * "postgres" (padrão) usa tsvector e trigramas do PostgreSQL; "memory" usa um índice invertido em memória (H2/testes).
+ */
+public interface DestinationSearchEngine {
+
+    /**
+     * Pesquisa destinos ordenados por relevância.
+     * @param query O termo de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página.
+     * @return Os destinos da página solicitada, do mais relevante para o menos relevante.
+     */
+    List<Destination> search(String query, int page, int size);
+
+    /**
+     * Pesquisa apenas os IDs dos destinos, na mesma ordem de search, para que os dados sejam
+     * lidos depois por projeção (somente as colunas pedidas).
+     * @param query O termo de pesquisa.
+     * @param page O número da página (começando em 0).
+     * @param size O tamanho da página.
+     * @return Os IDs da página solicitada, do mais relevante para o menos relevante.
+     */
+    List<Long> searchIds(String query, int page, int size);
+
+    /**
+     * Notifica o mecanismo de que um destino foi criado ou alterado.
+     * Implementações apoiadas no próprio banco de dados não precisam fazer nada.
+     * @param destination O destino salvo.
+     */
+    default void index(Destination destination) {
+    }
+
+    /**
+     * Notifica o mecanismo de que um destino foi excluído.
+     * @param id O ID do destino excluído.
+     */
+    default void remove(Long id) {
+    }
+}
@@ -0,0 +1,190 @@
+// src/main/java/com/example/travelagencyapi/service/search/InMemoryDestinationSearchEngine.java
+package com.example.travelagencyapi.service.search;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.DestinationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pesquisa de destinos com um índice invertido em memória, usada com H2 e nos testes.
+ * Cada termo (sem acentos e em minúsculas) aponta para os destinos que o contêm, com um peso por campo:
+ * nome pesa mais que localização, que pesa mais que descrição. Termos da consulta casam por prefixo,
+ * e um destino precisa conter todos os termos para aparecer no resultado.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class InMemoryDestinationSearchEngine implements DestinationSearchEngine {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_TERM_BONUS = 2; // Multiplicador quando o termo casa por inteiro, não só por prefixo
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final DestinationRepository destinationRepository;
+    // termo -> (id do destino -> peso); ordenado para permitir busca por prefixo
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    // id do destino -> termos indexados, para remover o destino do índice
+    private final Map<Long, Set<String>> termsByDestination = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock(); // Leituras não bloqueiam; escritas são serializadas
+
+    @Autowired
+    public InMemoryDestinationSearchEngine(DestinationRepository destinationRepository) {
+        this.destinationRepository = destinationRepository;
+    }
+
+    /**
+     * Constrói o índice a partir do banco de dados, em lotes, assim que a aplicação inicia.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        List<Destination> batch;
+        do {
+            batch = destinationRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Destination> search(String query, int page, int size) {
+        List<Long> pageIds = searchIds(query, page, size);
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        // O índice guarda apenas ids; os dados atuais da página vêm do banco, pela chave primária
+        Map<Long, Destination> destinations = destinationRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Destination::getId, Function.identity()));
+        List<Destination> result = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            Destination destination = destinations.get(id);
+            if (destination != null) {
+                result.add(destination);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Long> searchIds(String query, int page, int size) {
+        Map<Long, Integer> scores = null;
+        for (String term : tokenize(query)) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            postings.subMap(term, true, term + Character.MAX_VALUE, true).forEach((indexedTerm, destinations) -> {
+                int multiplier = indexedTerm.equals(term) ? EXACT_TERM_BONUS : 1;
+                destinations.forEach((id, weight) -> termScores.merge(id, weight * multiplier, Math::max));
+            });
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet()); // Todos os termos devem estar presentes
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (scores == null) {
+            return List.of(); // Consulta sem nenhum termo pesquisável
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry::getKey))
+                .skip((long) page * size)
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void index(Destination destination) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, destination.getName(), NAME_WEIGHT);
+        addTerms(weights, destination.getLocation(), LOCATION_WEIGHT);
+        addTerms(weights, destination.getDescription(), DESCRIPTION_WEIGHT);
+
+        writeLock.lock();
+        try {
+            removeFromPostings(destination.getId());
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(destination.getId(), weight));
+            termsByDestination.put(destination.getId(), new HashSet<>(weights.keySet()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            removeFromPostings(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeFromPostings(Long id) {
+        Set<String> terms = termsByDestination.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, destinations) -> {
+                destinations.remove(id);
+                return destinations.isEmpty() ? null : destinations;
+            });
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Quebra o texto em termos: remove acentos, converte para minúsculas e separa por tudo que não for letra ou dígito.
+     */
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,64 @@
+// src/main/java/com/example/travelagencyapi/service/search/PostgresDestinationSearchEngine.java
+package com.example.travelagencyapi.service.search;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.DestinationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Pesquisa de destinos apoiada no PostgreSQL.
+ * Combina pesquisa textual (tsvector com prefixos, cobrindo nome, localização e descrição)
+ * com similaridade por trigramas (pg_trgm) em nome e localização, ambas servidas por índices GIN
+ * (criados pela migração V2__access_path_indexes).
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresDestinationSearchEngine implements DestinationSearchEngine {
+
+    private final DestinationRepository destinationRepository;
+
+    @Autowired
+    public PostgresDestinationSearchEngine(DestinationRepository destinationRepository) {
+        this.destinationRepository = destinationRepository;
+    }
+
+    @Override
+    public List<Destination> search(String query, int page, int size) {
+        String prefixQuery = toPrefixTsQuery(query);
+        if (prefixQuery.isEmpty()) {
+            return List.of();
+        }
+        return destinationRepository.searchFullText(query.trim(), prefixQuery, size, (long) page * size);
+    }
+
+    @Override
+    public List<Long> searchIds(String query, int page, int size) {
+        String prefixQuery = toPrefixTsQuery(query);
+        if (prefixQuery.isEmpty()) {
+            return List.of();
+        }
+        return destinationRepository.searchFullTextIds(query.trim(), prefixQuery, size, (long) page * size);
+    }
+
+    /**
+     * Converte o texto livre em uma tsquery de prefixos: "praia flor" vira "praia:* &amp; flor:*".
+     * Apenas letras e dígitos são mantidos, então o texto do usuário nunca é interpretado como sintaxe de tsquery.
+     * @param query O texto digitado pelo usuário.
+     * @return A tsquery, ou uma string vazia se o texto não tiver nenhum termo.
+     */
+    public static String toPrefixTsQuery(String query) {
+        StringJoiner tsQuery = new StringJoiner(" & ");
+        for (String term : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                tsQuery.add(term + ":*");
+            }
+        }
+        return tsQuery.toString();
+    }
+}
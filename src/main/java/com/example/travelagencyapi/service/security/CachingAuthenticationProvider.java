@@ -0,0 +1,226 @@
+// src/main/java/com/example/travelagencyapi/service/security/CachingAuthenticationProvider.java
+package com.example.travelagencyapi.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AuthenticationProvider que mantém em cache as autenticações bem-sucedidas por usuário e senha.
+ * Com HTTP Basic as credenciais são reenviadas a cada requisição; sem este cache, cada chamada
+ * executaria novamente o BCrypt no provedor delegado.
+ *
+ * A chave do cache é um HMAC-SHA256 das credenciais, calculado com um segredo aleatório gerado
+ * na inicialização, de modo que nenhuma senha (nem um hash dela reutilizável fora do processo) fica em memória.
+ * As entradas ficam agrupadas por usuário, então remover as credenciais de um usuário é uma única remoção.
+ *
+ * O tempo de cada autenticação é medido no timer auth.authentication, com a tag result:
+ * "cached" (sem BCrypt), "verified" (validada pelo provedor delegado), "failed" ou "rejected" (executor de hashing saturado).
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate; // Provedor que realmente valida as credenciais (BCrypt)
+    private final SecretKeySpec secretKey;
+    private final Cache<String, Map<String, Authentication>> cache; // Usuário -> chave das credenciais -> autenticação
+    private final AtomicLong generation = new AtomicLong(); // Incrementada a cada remoção (ver evict)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param delegate O provedor que valida as credenciais quando não há entrada em cache.
+     * @param maximumSize O número máximo de usuários com credenciais mantidas em cache.
+     * @param timeToLive Por quanto tempo uma autenticação bem-sucedida é reaproveitada (contado da primeira do usuário).
+     * @param meterRegistry O registro de métricas.
+     */
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration timeToLive,
+                                         MeterRegistry meterRegistry) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.delegate = delegate;
+        this.secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(expireAfterCreate(timeToLive))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "credentials");
+    }
+
+    /**
+     * Autentica usando o cache quando as mesmas credenciais já foram validadas recentemente.
+     * Em caso de acerto, uma nova Authentication é criada para não compartilhar instâncias entre requisições.
+     * @param authentication O pedido de autenticação.
+     * @return A autenticação bem-sucedida.
+     * @throws AuthenticationException Se o provedor delegado rejeitar as credenciais.
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken) || authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String username = authentication.getName();
+        String key = credentialKey(username, authentication.getCredentials().toString());
+        Map<String, Authentication> entries = cache.getIfPresent(username);
+        Authentication cached = entries == null ? null : entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    cached.getPrincipal(), null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            sample.stop(authenticationTimer("cached"));
+            return result;
+        }
+
+        misses.increment();
+        long generationBefore = generation.get();
+        Authentication result;
+        try {
+            result = delegate.authenticate(authentication);
+        } catch (PasswordHashingRejectedException e) {
+            sample.stop(authenticationTimer("rejected")); // Executor de hashing saturado; credenciais não verificadas
+            throw e;
+        } catch (AuthenticationException e) {
+            sample.stop(authenticationTimer("failed"));
+            throw e;
+        }
+        if (result != null && result.isAuthenticated()) {
+            // Guarda apenas principal e autoridades; as credenciais nunca entram no cache
+            Authentication toCache = UsernamePasswordAuthenticationToken.authenticated(result.getPrincipal(), null, result.getAuthorities());
+            cache.asMap().compute(username, (name, current) -> {
+                if (generation.get() != generationBefore) {
+                    // Houve uma remoção durante a verificação: ela pode ter usado a senha ou os papéis anteriores
+                    return current;
+                }
+                Map<String, Authentication> updated = current == null ? new ConcurrentHashMap<>() : current;
+                updated.put(key, toCache);
+                return updated;
+            });
+        }
+        sample.stop(authenticationTimer("verified"));
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Remove do cache todas as credenciais de um usuário.
+     * Deve ser chamado sempre que a senha ou os papéis do usuário forem alterados.
+     * Uma autenticação já em andamento (ex: com a senha anterior) não volta a guardar as credenciais depois da remoção:
+     * a geração é incrementada sob o lock da entrada do usuário, o mesmo sob o qual essa autenticação a confere.
+     * @param username O nome de usuário cujas credenciais devem ser invalidadas.
+     */
+    public void evict(String username) {
+        cache.asMap().compute(username, (name, current) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * Remove todas as credenciais do cache.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return O número de autenticações atendidas pelo cache (sem BCrypt).
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return O número de autenticações que precisaram ir ao provedor delegado.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return O número de usuários com credenciais em cache (aproximado).
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Expiração contada da criação da entrada do usuário: novas credenciais verificadas não prolongam as anteriores.
+     */
+    private static Expiry<String, Map<String, Authentication>> expireAfterCreate(Duration timeToLive) {
+        long timeToLiveNanos = timeToLive.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String username, Map<String, Authentication> entries, long currentTime) {
+                return timeToLiveNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(String username, Map<String, Authentication> entries, long currentTime,
+                                          long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String username, Map<String, Authentication> entries, long currentTime,
+                                        long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private Timer authenticationTimer(String result) {
+        return Timer.builder("auth.authentication")
+                .description("Tempo total de autenticação por usuário e senha")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Calcula a chave do cache: HMAC-SHA256 do tamanho do usuário, do usuário e da senha.
+     * O prefixo com o tamanho evita colisões entre pares como ("a:b", "c") e ("a", "b:c").
+     */
+    private String credentialKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            byte[] usernameBytes = username.getBytes(StandardCharsets.UTF_8);
+            mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(usernameBytes.length).array());
+            mac.update(usernameBytes);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível para o cache de credenciais", e);
+        }
+    }
+}
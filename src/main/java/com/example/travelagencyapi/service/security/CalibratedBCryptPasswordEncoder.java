@@ -0,0 +1,109 @@
+// src/main/java/com/example/travelagencyapi/service/security/CalibratedBCryptPasswordEncoder.java
+package com.example.travelagencyapi.service.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt com custo (strength) escolhido para esta máquina.
+ * Diferente do BCryptPasswordEncoder, upgradeEncoding pede uma nova codificação quando o custo do hash gravado
+ * está fora da faixa aceita, para mais ou para menos: com DaoAuthenticationProvider e UserDetailsPasswordService,
+ * os hashes acompanham a configuração a cada login bem-sucedido, sem redefinir senhas.
+ * Com o custo calibrado, a faixa é a da calibração (e não o custo escolhido nesta máquina): instâncias em máquinas
+ * diferentes calibram custos vizinhos, e um custo exato faria cada uma regravar os hashes gravados pela outra.
+ */
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[abyx]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final int minAccepted;
+    private final int maxAccepted;
+
+    /**
+     * Custo fixo: hashes com qualquer outro custo são regravados.
+     * @param strength O custo do BCrypt (log2 das iterações, entre 4 e 31).
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        this(strength, strength, strength);
+    }
+
+    /**
+     * @param strength O custo do BCrypt nas novas codificações (log2 das iterações, entre 4 e 31).
+     * @param minAccepted O menor custo aceito sem regravar o hash.
+     * @param maxAccepted O maior custo aceito sem regravar o hash.
+     */
+    public CalibratedBCryptPasswordEncoder(int strength, int minAccepted, int maxAccepted) {
+        if (strength < minAccepted || strength > maxAccepted) {
+            throw new IllegalArgumentException("Custo " + strength + " fora da faixa aceita [" + minAccepted + ", " + maxAccepted + "]");
+        }
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.minAccepted = minAccepted;
+        this.maxAccepted = maxAccepted;
+    }
+
+    /**
+     * Escolhe o maior custo cuja verificação leva no máximo targetTime nesta máquina, dentro de [minStrength, maxStrength].
+     * Mede o menor de alguns tempos de verificação no custo mínimo e extrapola: cada ponto de custo dobra o tempo.
+     * O limite superior mantém o custo de CPU do login sob controle; o inferior preserva a segurança em máquinas lentas.
+     * @param targetTime O tempo desejado por verificação de senha.
+     * @param minStrength O menor custo aceito.
+     * @param maxStrength O maior custo aceito.
+     * @return O custo escolhido.
+     */
+    public static int calibrate(Duration targetTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        String hash = probe.encode("calibracao"); // Também aquece o código do BCrypt
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long startNanos = System.nanoTime();
+            probe.matches("calibracao", hash);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startNanos);
+        }
+
+        int strength = minStrength;
+        long estimatedNanos = bestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetTime.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        return strength;
+    }
+
+    /**
+     * @return O custo usado nas novas codificações.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        int hashStrength = Integer.parseInt(matcher.group(1));
+        return hashStrength < minAccepted || hashStrength > maxAccepted;
+    }
+}
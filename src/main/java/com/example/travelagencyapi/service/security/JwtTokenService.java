@@ -0,0 +1,161 @@
+// src/main/java/com/example/travelagencyapi/service/security/JwtTokenService.java
+package com.example.travelagencyapi.service.security;
+
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serviço responsável por emitir e verificar tokens de acesso assinados (JWT com HMAC-SHA256).
+ * A verificação é totalmente local: confere a assinatura e a expiração e monta a Authentication
+ * a partir das claims, sem consultar o banco de dados nem executar o BCrypt.
+ *
+ * Por isso um token emitido continua válido até expirar, mesmo depois de uma troca de senha ou de papel
+ * (que só invalidam os caches de credenciais e de usuários): a janela de revogação é app.security.jwt.expiration-seconds.
+ */
+@Service
+public class JwtTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    // Cabeçalho fixo: tokens com qualquer outro algoritmo são rejeitados
+    private static final String ENCODED_HEADER = BASE64_URL_ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec secretKey;
+    private final long expirationSeconds;
+
+    /**
+     * @param objectMapper O ObjectMapper usado para serializar as claims.
+     * @param secret O segredo de assinatura em Base64 (mínimo de 32 bytes). Se vazio, um segredo aleatório é gerado,
+     *               e os tokens só valem nesta instância e até a próxima reinicialização.
+     * @param requireSecret Se true, a inicialização falha quando o segredo está vazio (ativado no perfil "prod").
+     * @param expirationSeconds O tempo de validade do token, em segundos.
+     */
+    @Autowired
+    public JwtTokenService(ObjectMapper objectMapper,
+                           @Value("${app.security.jwt.secret:}") String secret,
+                           @Value("${app.security.jwt.require-secret:false}") boolean requireSecret,
+                           @Value("${app.security.jwt.expiration-seconds:900}") long expirationSeconds) {
+        this.objectMapper = objectMapper;
+        this.secretKey = new SecretKeySpec(resolveSecret(secret, requireSecret), HMAC_ALGORITHM);
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    /**
+     * Emite um token de acesso para uma autenticação bem-sucedida.
+     * @param authentication A autenticação do usuário (nome e autoridades viram claims).
+     * @return O token no formato compacto header.payload.assinatura.
+     */
+    public String issueToken(Authentication authentication) {
+        long issuedAt = Instant.now().getEpochSecond();
+
+        ObjectNode claims = objectMapper.createObjectNode();
+        claims.put("sub", authentication.getName());
+        ArrayNode roles = claims.putArray("roles");
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            roles.add(authority.getAuthority());
+        }
+        claims.put("iat", issuedAt);
+        claims.put("exp", issuedAt + expirationSeconds);
+
+        try {
+            String signingInput = ENCODED_HEADER + "." + BASE64_URL_ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + BASE64_URL_ENCODER.encodeToString(sign(signingInput));
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível serializar as claims do token", e);
+        }
+    }
+
+    /**
+     * Verifica um token de acesso.
+     * @param token O token recebido no cabeçalho Authorization.
+     * @return Um Optional com a Authentication montada a partir das claims, ou vazio se o token for inválido ou expirado.
+     */
+    public Optional<Authentication> verify(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3 || !ENCODED_HEADER.equals(parts[0])) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] expectedSignature = sign(parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expectedSignature, BASE64_URL_DECODER.decode(parts[2]))) {
+                return Optional.empty();
+            }
+
+            JsonNode claims = objectMapper.readTree(BASE64_URL_DECODER.decode(parts[1]));
+            if (!claims.hasNonNull("sub") || claims.path("exp").asLong(0) <= Instant.now().getEpochSecond()) {
+                return Optional.empty();
+            }
+
+            // Instâncias compartilhadas do AuthorityRegistry (a hierarquia já foi resolvida ao emitir o token)
+            List<String> roles = new ArrayList<>();
+            for (JsonNode role : claims.path("roles")) {
+                roles.add(role.asText());
+            }
+            return Optional.of(UsernamePasswordAuthenticationToken.authenticated(claims.get("sub").asText(), null,
+                    AuthorityRegistry.authoritiesFor(roles)));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty(); // Base64 ou JSON malformado
+        }
+    }
+
+    /**
+     * @return O tempo de validade dos tokens emitidos, em segundos.
+     */
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível para assinar tokens", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret, boolean requireSecret) {
+        if (secret == null || secret.isBlank()) {
+            if (requireSecret) {
+                // Com um segredo aleatório por instância, tokens emitidos por uma instância seriam rejeitados pelas outras
+                throw new IllegalStateException("app.security.jwt.secret é obrigatório (app.security.jwt.require-secret=true); "
+                        + "defina um segredo em Base64 com pelo menos 32 bytes, ex: pela variável APP_SECURITY_JWT_SECRET");
+            }
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            return generated;
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret);
+        if (decoded.length < 32) {
+            throw new IllegalStateException("app.security.jwt.secret deve ter pelo menos 32 bytes (256 bits)");
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/example/travelagencyapi/service/security/OffloadingPasswordEncoder.java
+package com.example.travelagencyapi.service.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que executa codificações e verificações no PasswordHashingExecutor, e não na thread da requisição.
+ * upgradeEncoding apenas lê o prefixo e o custo do hash, então continua na thread atual.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    /**
+     * @param delegate O codificador que realmente processa as senhas.
+     * @param executor O pool limitado onde o processamento é feito.
+     */
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
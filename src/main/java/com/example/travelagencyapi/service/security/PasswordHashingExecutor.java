@@ -0,0 +1,109 @@
+// src/main/java/com/example/travelagencyapi/service/security/PasswordHashingExecutor.java
+package com.example.travelagencyapi.service.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool limitado de threads que executa todo o hashing de senhas (BCrypt/Argon2), fora das threads de requisição.
+ * Com uma thread por núcleo e uma fila de tamanho fixo, uma rajada de logins ocupa no máximo esses núcleos;
+ * as demais requisições (ex: leituras de destinos) continuam com CPU disponível. Quando a fila está cheia,
+ * a tarefa é recusada na hora com PasswordHashingRejectedException, em vez de esperar indefinidamente.
+ *
+ * A thread da requisição aguarda o resultado. Métricas: executor.* (tamanho da fila, threads ativas, tarefas
+ * concluídas) com a tag name=password-hashing, o timer auth.password.queue.wait (espera na fila) e o
+ * contador auth.password.rejected.
+ */
+public class PasswordHashingExecutor {
+
+    private static final String NAME = "password-hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param threads O número de threads (normalmente o número de núcleos).
+     * @param queueCapacity Quantas tarefas podem aguardar na fila antes de novas serem recusadas.
+     * @param retryAfterSeconds O intervalo sugerido ao cliente quando uma tarefa é recusada.
+     * @param meterRegistry O registro de métricas.
+     */
+    public PasswordHashingExecutor(int threads, int queueCapacity, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, NAME + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.waitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Tempo de espera na fila do executor de hashing de senhas")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Codificações e verificações de senha recusadas com o executor saturado")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Executa a tarefa no pool e aguarda o resultado na thread atual.
+     * @param task A codificação ou verificação de senha.
+     * @return O resultado da tarefa.
+     * @throws PasswordHashingRejectedException Se a fila estiver cheia (ou a espera for interrompida).
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedNanos = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                return task.get();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return O número de tarefas aguardando na fila.
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Encerra o pool; chamado pelo Spring ao fechar o contexto.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
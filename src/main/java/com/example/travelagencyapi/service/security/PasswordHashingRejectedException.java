@@ -0,0 +1,29 @@
+// src/main/java/com/example/travelagencyapi/service/security/PasswordHashingRejectedException.java
+package com.example.travelagencyapi.service.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Lançada quando o executor de hashing de senhas está saturado e recusa uma codificação ou verificação.
+ * Não indica credenciais inválidas: o cliente deve tentar de novo após getRetryAfterSeconds (HTTP 429).
+ * É uma AuthenticationException para atravessar o ProviderManager e chegar ao ponto de entrada do HTTP Basic.
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * @param retryAfterSeconds Em quantos segundos o cliente deve tentar novamente.
+     */
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super("Muitas autenticações em andamento; tente novamente em instantes.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return Em quantos segundos o cliente deve tentar novamente (cabeçalho Retry-After).
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
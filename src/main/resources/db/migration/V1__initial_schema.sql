@@ -0,0 +1,37 @@
+-- Schema inicial, equivalente ao que o Hibernate criava com ddl-auto=update.
+-- Bancos já existentes (criados pelo Hibernate) não executam esta migração: eles recebem a linha de base
+-- na versão 1 (spring.flyway.baseline-on-migrate) e seguem a partir da V2. Como podem não ter destinations_seq
+-- nem as colunas version e updated_at, V2_1 as cria.
+
+CREATE SEQUENCE IF NOT EXISTS destinations_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS destinations (
+    id bigint NOT NULL,
+    name varchar(255),
+    location varchar(255),
+    description varchar(255),
+    average_rating float(53) NOT NULL,
+    number_of_ratings integer NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    updated_at timestamp(6) with time zone DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    name varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    username varchar(255) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id bigint NOT NULL REFERENCES users (id),
+    role_id bigint NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
@@ -0,0 +1,15 @@
+-- Atualiza a tabela de destinos de bancos criados antes das migrações (ddl-auto=update com as entidades originais).
+-- Esses bancos recebem a linha de base na versão 1, então V1 não é executada neles: o id ainda é uma coluna IDENTITY,
+-- não há destinations_seq e faltam as colunas version e updated_at, exigidas por V3 e pela validação do Hibernate.
+-- Todos os comandos são idempotentes: em bancos criados por V1 (ou em que ela já rodou depois, com out-of-order)
+-- nada muda.
+
+CREATE SEQUENCE IF NOT EXISTS destinations_seq START WITH 1 INCREMENT BY 50;
+
+-- Os IDs passam a ser atribuídos pelo Hibernate a partir da sequência (alinhada aos IDs existentes por V3)
+ALTER TABLE destinations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Controle de concorrência otimista e data de modificação (ETag e Last-Modified); as linhas existentes
+-- recebem a versão 0 e a data da migração
+ALTER TABLE destinations ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE destinations ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone DEFAULT CURRENT_TIMESTAMP NOT NULL;
@@ -0,0 +1,19 @@
+-- Índices dos caminhos de acesso; antes só existiam as chaves primárias e as restrições UNIQUE.
+
+-- Comparações sem diferenciar maiúsculas de minúsculas em nome e localização (lower(name), lower(location))
+CREATE INDEX IF NOT EXISTS idx_destinations_name_lower ON destinations (lower(name));
+CREATE INDEX IF NOT EXISTS idx_destinations_location_lower ON destinations (lower(location));
+
+-- Pesquisa (DestinationRepository.searchFullText e searchFullTextIds): as expressões devem ser idênticas às das consultas.
+-- Antes criados por PostgresDestinationSearchEngine na inicialização; IF NOT EXISTS preserva os já existentes.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_destinations_search_vector ON destinations USING gin
+    (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(location, '') || ' ' || coalesce(description, '')));
+
+CREATE INDEX IF NOT EXISTS idx_destinations_name_location_trgm ON destinations USING gin
+    ((coalesce(name, '') || ' ' || coalesce(location, '')) gin_trgm_ops);
+
+-- Tabela de junção: a chave primária (user_id, role_id) já serve as buscas por usuário;
+-- as buscas por papel (e a verificação da chave estrangeira ao excluir um papel) precisam deste índice
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_id ON user_roles (role_id);
@@ -0,0 +1,6 @@
+-- Alinha a sequência de IDs de destinos com os destinos já cadastrados (antes feito por DestinationSequenceInitializer).
+-- Em bancos antigos os IDs vinham de uma coluna IDENTITY, e a sequência começaria em 1, gerando IDs já usados.
+-- O Hibernate usa o valor da sequência como o fim de um bloco de 50 IDs (allocationSize),
+-- então a sequência precisa estar pelo menos um bloco acima do maior ID existente.
+SELECT setval('destinations_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM destinations))
+WHERE (SELECT last_value FROM destinations_seq) < (SELECT COALESCE(MAX(id), 0) + 50 FROM destinations);
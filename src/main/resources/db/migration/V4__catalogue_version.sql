@@ -0,0 +1,14 @@
+-- Versão do catálogo (ETag da listagem) sem percorrer a tabela de destinos.
+-- Antes: count(*) e max(updated_at) sobre todos os destinos a cada requisição condicional.
+
+-- max(updated_at) passa a ser lido do fim do índice (criações, alterações e avaliações atualizam a coluna)
+CREATE INDEX IF NOT EXISTS idx_destinations_updated_at ON destinations (updated_at);
+
+-- Exclusões não alteram updated_at de nenhuma linha restante: são contadas aqui, na mesma transação do DELETE
+CREATE TABLE IF NOT EXISTS catalogue_state (
+    id integer NOT NULL,
+    deletions bigint NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO catalogue_state (id, deletions) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,8 @@
+-- Último segmento do log de avaliações (escrita adiada) já gravado no banco, por instância.
+-- Atualizado na mesma transação do lote: na recuperação, segmentos até este número são descartados
+-- em vez de aplicados de novo (queda entre o commit do lote e a remoção dos arquivos).
+CREATE TABLE IF NOT EXISTS rating_journal_state (
+    journal_id varchar(36) NOT NULL,
+    last_flushed_segment bigint NOT NULL,
+    PRIMARY KEY (journal_id)
+);
@@ -0,0 +1,9 @@
+-- Versão do catálogo (ETag da listagem) como um contador, incrementado na mesma transação de cada escrita de destinos:
+-- criação, alteração, avaliação, exclusão e lotes da escrita adiada de avaliações.
+-- Antes: contador de exclusões combinado com max(updated_at), que dependia do relógio de quem gravava a coluna
+-- (e, com a escrita adiada, do total de avaliações aceitas por cada instância).
+-- O contador de exclusões já só aumentava: passa a ser a versão, sem voltar a um valor já enviado em um ETag.
+ALTER TABLE catalogue_state RENAME COLUMN deletions TO version;
+
+-- Usado apenas por max(updated_at); sem ele cada escrita deixa de atualizar mais um índice
+DROP INDEX IF EXISTS idx_destinations_updated_at;
@@ -0,0 +1,68 @@
+// src/perf/java/com/example/travelagencyapi/perf/AuthoritiesBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.example.travelagencyapi.model.security.Role;
+import com.example.travelagencyapi.model.security.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Custo de User.getAuthorities, chamado a cada autenticação e a cada verificação de papel.
+ * legacyGetAuthorities reproduz a implementação anterior (um stream e uma lista de SimpleGrantedAuthority por chamada)
+ * para comparação; tokenAuthorities mede as autoridades montadas a cada requisição com token.
+ * Rode com -Djmh.gc=true para ver a alocação por chamada (gc.alloc.rate.norm, em bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    private User user;
+    private Set<Role> roles;
+    private List<String> tokenRoles;
+
+    @Setup
+    public void createUser() {
+        user = new User("admin", "{bcrypt}irrelevante");
+        roles = Set.of(new Role("ROLE_ADMIN"), new Role("ROLE_USER"));
+        user.setRoles(roles);
+        tokenRoles = List.of("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> legacyGetAuthorities() {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> tokenAuthorities() {
+        return AuthorityRegistry.authoritiesFor(tokenRoles);
+    }
+}
@@ -0,0 +1,104 @@
+// src/perf/java/com/example/travelagencyapi/perf/BaselineComparator.java
+package com.example.travelagencyapi.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara dois arquivos de resultado JMH (formato JSON) e imprime a variação de cada benchmark.
+ * Um benchmark regrediu quando piorou mais que a tolerância e a diferença é maior que a soma
+ * das margens de erro das duas medições (para não acusar ruído como regressão).
+ */
+public final class BaselineComparator {
+
+    private BaselineComparator() {
+    }
+
+    /**
+     * @param baselineFile O resultado gravado como linha de base.
+     * @param resultFile O resultado da execução atual.
+     * @param tolerance A piora máxima aceita (ex: 0.10 para 10%).
+     * @return A descrição de cada regressão encontrada (vazia se não houver linha de base ou se ela estiver vazia).
+     * @throws IOException Se algum dos arquivos não puder ser lido.
+     */
+    public static List<String> compare(Path baselineFile, Path resultFile, double tolerance) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        if (!Files.exists(baselineFile)) {
+            System.out.println("Sem linha de base em " + baselineFile + "; grave uma com -Djmh.updateBaseline=true.");
+            return regressions;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile.toFile()));
+        Map<String, JsonNode> current = index(objectMapper.readTree(resultFile.toFile()));
+        if (baseline.isEmpty()) {
+            // O arquivo versionado começa vazio: medições só são comparáveis na mesma máquina
+            System.out.println("Linha de base vazia em " + baselineFile + "; grave-a na máquina de referência com -Djmh.updateBaseline=true.");
+        }
+
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Base", "Atual", "Variação");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", score(after), "novo");
+                continue;
+            }
+
+            // Em vazão (thrpt) maior é melhor; nos demais modos (tempo médio, amostras) menor é melhor
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double change = (score(after) - score(before)) / score(before);
+            double worsening = higherIsBetter ? -change : change;
+            double noise = error(before) + error(after);
+            boolean regressed = worsening > tolerance && Math.abs(score(after) - score(before)) > noise;
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), score(before), score(after),
+                    change * 100, regressed ? "  REGRESSÃO" : "");
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Indexa os resultados por nome do benchmark e parâmetros (ex: "SerializationBenchmark.write[size=100]").
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.example.travelagencyapi.perf.", ""));
+            JsonNode params = result.path("params");
+            if (params.isObject() && params.size() > 0) {
+                List<String> pairs = new ArrayList<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    pairs.add(field.getKey() + "=" + field.getValue().asText());
+                }
+                key.append(pairs);
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0.0 : error; // JMH grava NaN quando há uma única iteração
+    }
+}
@@ -0,0 +1,54 @@
+// src/perf/java/com/example/travelagencyapi/perf/BenchmarkRunner.java
+package com.example.travelagencyapi.perf;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Executa os benchmarks JMH e compara o resultado com a linha de base gravada.
+ * Chamado pelo perfil Maven "perf"; as opções chegam como propriedades de sistema:
+ * jmh.include (regex dos benchmarks), jmh.result, jmh.baseline, jmh.tolerance (em %),
+ * jmh.failOnRegression, jmh.updateBaseline e jmh.gc (alocação por operação, com o GCProfiler).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/perf/baseline/jmh-baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("jmh.tolerance", "10")) / 100.0;
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", ".*"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString());
+        if (Boolean.getBoolean("jmh.gc")) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+
+        if (Boolean.getBoolean("jmh.updateBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Linha de base atualizada: " + baseline);
+            return;
+        }
+
+        List<String> regressions = BaselineComparator.compare(baseline, result, tolerance);
+        if (!regressions.isEmpty() && Boolean.getBoolean("jmh.failOnRegression")) {
+            System.err.println(regressions.size() + " benchmark(s) com regressão acima de " + Math.round(tolerance * 100) + "%.");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// src/perf/java/com/example/travelagencyapi/perf/BulkCreateBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.dto.BulkItemResult;
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationBulkService;
+import com.example.travelagencyapi.service.DestinationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação de um lote de destinos um por vez (DestinationService.createDestination, uma transação por destino)
+ * e em lote (DestinationBulkService.createDestinations, blocos de app.bulk.chunk-size com lotes JDBC).
+ * Cada operação cria batchSize destinos novos; o tempo é o do lote inteiro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BulkCreateBenchmark {
+
+    @Param({"2000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private DestinationService destinationService;
+    private DestinationBulkService destinationBulkService;
+    private int next; // Numeração dos destinos criados, para nomes distintos entre as iterações
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = PerfContext.start();
+        destinationService = context.getBean(DestinationService.class);
+        destinationBulkService = context.getBean(DestinationBulkService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long singleInserts() {
+        Long lastId = null;
+        for (Destination destination : nextBatch()) {
+            lastId = destinationService.createDestination(destination).getId();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public List<BulkItemResult> bulkCreate() {
+        return destinationBulkService.createDestinations(nextBatch().iterator());
+    }
+
+    private List<Destination> nextBatch() {
+        List<Destination> destinations = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++, next++) {
+            destinations.add(new Destination(null, "Destino " + next, "Cidade " + (next % 100), "Descrição do destino " + next));
+        }
+        return destinations;
+    }
+}
@@ -0,0 +1,120 @@
+// src/perf/java/com/example/travelagencyapi/perf/LoadOperation.java
+package com.example.travelagencyapi.perf;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Operações reproduzidas pelo teste de carga, uma por endpoint de DestinationController e AuthController.
+ * Cada operação monta a requisição a partir do estado do usuário virtual e pode atualizar esse estado com a resposta.
+ */
+public enum LoadOperation {
+
+    /** Listagem paginada: segue o cursor X-Next-Cursor e recomeça da primeira página ao chegar ao fim. */
+    LIST("list") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            String cursor = user.nextCursor == null ? "" : "&cursor=" + user.nextCursor;
+            return user.authorized(HttpRequest.newBuilder(user.uri("/api/destinations?size=" + user.config.pageSize + cursor)));
+        }
+
+        @Override
+        void onResponse(LoadTest.VirtualUser user, HttpResponse<?> response) {
+            user.nextCursor = response.headers().firstValue("X-Next-Cursor").orElse(null);
+        }
+    },
+
+    /** Detalhes de um destino (cache de leitura por ID). */
+    GET("get") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            return user.authorized(HttpRequest.newBuilder(user.uri("/api/destinations/" + user.pickDestinationId())));
+        }
+    },
+
+    /** Pesquisa por um termo do catálogo gerado; 404 (nenhum resultado) não é erro. */
+    SEARCH("search") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            return user.authorized(HttpRequest.newBuilder(user.uri("/api/destinations/search?query=" + user.pickSearchTerm())));
+        }
+
+        @Override
+        boolean isSuccess(int status) {
+            return status < 400 || status == 404;
+        }
+    },
+
+    /** Avaliação de um destino, concentrada nos mesmos destinos quentes de GET. */
+    RATE("rate") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            URI uri = user.uri("/api/destinations/" + user.pickDestinationId() + "/rate?rating=" + (user.random.nextInt(10) + 1));
+            return user.authorized(HttpRequest.newBuilder(uri).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+        }
+    },
+
+    /** Cadastro de um destino novo. */
+    CREATE("create") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            String body = "{\"name\":\"Carga " + user.index + "-" + user.random.nextInt(1_000_000)
+                    + "\",\"location\":\"Teste de carga\",\"description\":\"Criado pelo teste de carga\"}";
+            return user.authorized(HttpRequest.newBuilder(user.uri("/api/destinations"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+        }
+    },
+
+    /** Login com usuário e senha (BCrypt a cada chamada) e emissão de token. */
+    LOGIN("login") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            return HttpRequest.newBuilder(user.uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(user.loginBody()));
+        }
+    },
+
+    /** Registro de um usuário novo pelo administrador (codificação BCrypt). */
+    REGISTER("register") {
+        @Override
+        HttpRequest.Builder request(LoadTest.VirtualUser user) {
+            String body = "{\"username\":\"novo-" + user.index + "-" + (user.registered++)
+                    + "\",\"password\":\"novasenha\",\"role\":\"ROLE_USER\"}";
+            return HttpRequest.newBuilder(user.uri("/api/auth/register"))
+                    .header("Authorization", LoadTest.ADMIN_AUTHORIZATION)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    };
+
+    private final String key; // Nome usado em load.mix (ex: "list:25,get:35")
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    abstract HttpRequest.Builder request(LoadTest.VirtualUser user);
+
+    void onResponse(LoadTest.VirtualUser user, HttpResponse<?> response) {
+    }
+
+    boolean isSuccess(int status) {
+        return status < 400;
+    }
+
+    static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida em load.mix: " + key);
+    }
+}
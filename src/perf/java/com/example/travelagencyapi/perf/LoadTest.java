@@ -0,0 +1,395 @@
+// src/perf/java/com/example/travelagencyapi/perf/LoadTest.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.dto.BulkItemResult;
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationBulkService;
+import com.example.travelagencyapi.service.auth.AuthService;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga de ponta a ponta: inicia a aplicação sobre H2 em memória, cadastra destinos e usuários
+ * e reproduz, por HTTP, uma mistura configurável de operações, medindo vazão e percentis de latência (HdrHistogram).
+ *
+ * Configuração por propriedades de sistema (ver o perfil Maven "perf" e o README):
+ * load.threads, load.duration-seconds, load.warmup-seconds, load.rate, load.mix, load.auth,
+ * load.destinations, load.users, load.hot-set, load.page-size, load.seed, load.report-dir e load.app-properties.
+ *
+ * Com load.rate &gt; 0 o modelo é aberto: cada requisição tem um horário previsto e a latência é medida
+ * a partir dele, para que atrasos do servidor não escondam a espera das requisições seguintes
+ * (omissão coordenada). Com load.rate = 0 cada usuário virtual envia a próxima requisição assim que recebe a anterior.
+ */
+public final class LoadTest {
+
+    static final String ADMIN_AUTHORIZATION = basic("admin", "adminpass"); // Usuário criado em seedUsers
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] SEARCH_TERMS = {"praia", "serra", "cachoeira", "ilha", "rio", "bahia", "trilhas", "surf", "nada"};
+    private static final String[] NAMES = {"Praia", "Serra", "Cachoeira", "Ilha", "Vale", "Lagoa", "Chapada", "Baía"};
+    private static final String[] PLACES = {"Rio de Janeiro", "Bahia", "Santa Catarina", "Minas Gerais", "Pernambuco", "Goiás"};
+    private static final String[] WORDS = {"trilhas", "mergulho", "gastronomia", "dunas", "surf", "história", "vinícolas"};
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        run(Config.fromSystemProperties(), null);
+    }
+
+    /**
+     * Executa um teste de carga completo: inicia a aplicação, cadastra os dados, envia a carga e imprime o relatório.
+     * @param config A configuração do teste.
+     * @param label Nome da execução (subdiretório do relatório), ou null.
+     * @param extraAppProperties Propriedades da aplicação somadas a load.app-properties (ex: para comparar configurações).
+     * @return O histograma de todas as operações e o número de erros.
+     */
+    static Result run(Config config, String label, String... extraAppProperties) throws Exception {
+        String[] appProperties = Arrays.copyOf(config.appProperties, config.appProperties.length + extraAppProperties.length);
+        System.arraycopy(extraAppProperties, 0, appProperties, config.appProperties.length, extraAppProperties.length);
+        System.out.println("Configuração: " + config + (label == null ? "" : ", execução=" + label + " " + Arrays.toString(extraAppProperties)));
+
+        try (ConfigurableApplicationContext context = PerfContext.start(appProperties)) {
+            long[] destinationIds = seedDestinations(context, config);
+            seedUsers(context, config);
+
+            String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            long startNanos = System.nanoTime();
+            long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+            long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+            List<VirtualUser> users = new ArrayList<>(config.threads);
+            List<Thread> threads = new ArrayList<>(config.threads);
+            for (int i = 0; i < config.threads; i++) {
+                VirtualUser user = new VirtualUser(i, config, client, baseUri, destinationIds);
+                users.add(user);
+                Thread thread = new Thread(() -> user.run(startNanos, measureFromNanos, endNanos), "load-" + i);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            Path reportDir = label == null ? Path.of(config.reportDir) : Path.of(config.reportDir, label);
+            return report(users, config, reportDir);
+        }
+    }
+
+    private static long[] seedDestinations(ConfigurableApplicationContext context, Config config) {
+        List<Destination> catalogue = new ArrayList<>(config.destinations);
+        for (int i = 0; i < config.destinations; i++) {
+            catalogue.add(new Destination(null, NAMES[i % NAMES.length] + " " + i, PLACES[i % PLACES.length] + ", Brasil",
+                    WORDS[i % WORDS.length] + " e " + WORDS[(i / 7) % WORDS.length]));
+        }
+        List<BulkItemResult> results = context.getBean(DestinationBulkService.class).createDestinations(catalogue.iterator());
+        return results.stream().filter(result -> result.getId() != null).mapToLong(BulkItemResult::getId).toArray();
+    }
+
+    private static void seedUsers(ConfigurableApplicationContext context, Config config) {
+        AuthService authService = context.getBean(AuthService.class);
+        // Os usuários de demonstração só existem no perfil "dev"; o administrador do teste é criado aqui
+        authService.registerUser("admin", "adminpass", "ROLE_ADMIN");
+        for (int i = 0; i < config.users; i++) {
+            authService.registerUser(username(i), password(i), "ROLE_USER");
+        }
+    }
+
+    private static Result report(List<VirtualUser> users, Config config, Path reportDir) throws IOException {
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Long> errors = new EnumMap<>(LoadOperation.class);
+        Histogram total = newHistogram();
+        long totalErrors = 0;
+        for (VirtualUser user : users) {
+            for (Map.Entry<LoadOperation, Histogram> entry : user.histograms.entrySet()) {
+                histograms.computeIfAbsent(entry.getKey(), operation -> newHistogram()).add(entry.getValue());
+                total.add(entry.getValue());
+            }
+            for (Map.Entry<LoadOperation, Long> entry : user.errors.entrySet()) {
+                errors.merge(entry.getKey(), entry.getValue(), Long::sum);
+                totalErrors += entry.getValue();
+            }
+        }
+
+        Files.createDirectories(reportDir);
+        System.out.printf("%n%-10s %9s %7s %10s %9s %9s %9s %9s%n", "Operação", "Req.", "Erros", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Máx ms");
+        for (Map.Entry<LoadOperation, Histogram> entry : histograms.entrySet()) {
+            printRow(entry.getKey().getKey(), entry.getValue(), errors.getOrDefault(entry.getKey(), 0L), config);
+            writePercentiles(reportDir.resolve(entry.getKey().getKey() + ".hgrm"), entry.getValue());
+        }
+        printRow("total", total, totalErrors, config);
+        writePercentiles(reportDir.resolve("total.hgrm"), total);
+        System.out.println("Distribuições completas de latência em " + reportDir.toAbsolutePath());
+        return new Result(total, totalErrors, config.durationSeconds);
+    }
+
+    private static void printRow(String name, Histogram histogram, long errors, Config config) {
+        System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), errors,
+                histogram.getTotalCount() / (double) config.durationSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writePercentiles(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1000.0); // Microssegundos -> milissegundos
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_LATENCY_MICROS, 3);
+    }
+
+    private static String username(int i) {
+        return "carga" + i;
+    }
+
+    private static String password(int i) {
+        return "senha" + i;
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Resultado agregado de uma execução.
+     */
+    static final class Result {
+        final Histogram latency; // Todas as operações, em microssegundos
+        final long errors;
+        final int durationSeconds;
+
+        Result(Histogram latency, long errors, int durationSeconds) {
+            this.latency = latency;
+            this.errors = errors;
+            this.durationSeconds = durationSeconds;
+        }
+
+        double throughput() {
+            return latency.getTotalCount() / (double) durationSeconds;
+        }
+    }
+
+    /**
+     * Um usuário virtual: uma thread que envia requisições em sequência, com seu próprio gerador
+     * aleatório (semente fixa, então a sequência de operações se repete a cada execução) e seus próprios histogramas.
+     */
+    static final class VirtualUser {
+        final int index;
+        final Config config;
+        final Random random;
+        final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        final Map<LoadOperation, Long> errors = new EnumMap<>(LoadOperation.class);
+        private final HttpClient client;
+        private final String baseUri;
+        private final long[] destinationIds;
+        private final String basicAuthorization;
+        private String accessToken;
+        String nextCursor; // Estado da listagem paginada
+        int registered; // Contador para nomes únicos em REGISTER
+
+        VirtualUser(int index, Config config, HttpClient client, String baseUri, long[] destinationIds) {
+            this.index = index;
+            this.config = config;
+            this.random = new Random(config.seed + index);
+            this.client = client;
+            this.baseUri = baseUri;
+            this.destinationIds = destinationIds;
+            this.basicAuthorization = basic(username(userIndex()), password(userIndex()));
+        }
+
+        void run(long startNanos, long measureFromNanos, long endNanos) {
+            // Intervalo entre requisições deste usuário no modelo aberto (0 = modelo fechado)
+            long intervalNanos = config.rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * config.threads / config.rate) : 0;
+            long intendedNanos = startNanos + (intervalNanos > 0 ? random.nextLong(intervalNanos) : 0);
+
+            while (true) {
+                if (intervalNanos > 0) {
+                    long wait = intendedNanos - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    intendedNanos = System.nanoTime();
+                }
+                if (intendedNanos >= endNanos) {
+                    return;
+                }
+
+                LoadOperation operation = config.pickOperation(random);
+                boolean success = execute(operation);
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+                if (intendedNanos >= measureFromNanos) {
+                    histograms.computeIfAbsent(operation, key -> newHistogram())
+                            .recordValue(Math.min(latencyMicros, HIGHEST_LATENCY_MICROS));
+                    if (!success) {
+                        errors.merge(operation, 1L, Long::sum);
+                    }
+                }
+                intendedNanos += intervalNanos;
+            }
+        }
+
+        private boolean execute(LoadOperation operation) {
+            try {
+                HttpResponse<byte[]> response = send(operation);
+                if (response.statusCode() == 401 && accessToken != null) {
+                    accessToken = null; // Token expirado: faz login de novo e repete
+                    response = send(operation);
+                }
+                operation.onResponse(this, response);
+                return operation.isSuccess(response.statusCode());
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private HttpResponse<byte[]> send(LoadOperation operation) throws IOException, InterruptedException {
+            HttpRequest request = operation.request(this).timeout(Duration.ofSeconds(30)).build();
+            return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+
+        HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+            if (!"bearer".equalsIgnoreCase(config.auth)) {
+                return builder.header("Authorization", basicAuthorization);
+            }
+            if (accessToken == null) {
+                accessToken = login();
+            }
+            return builder.header("Authorization", "Bearer " + accessToken);
+        }
+
+        private String login() {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(uri("/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(loginBody()))
+                        .build();
+                Matcher matcher = ACCESS_TOKEN.matcher(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+                if (!matcher.find()) {
+                    throw new IllegalStateException("Login do teste de carga falhou para " + username(userIndex()));
+                }
+                return matcher.group(1);
+            } catch (IOException e) {
+                throw new IllegalStateException("Login do teste de carga falhou", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Login do teste de carga interrompido", e);
+            }
+        }
+
+        String loginBody() {
+            return "{\"username\":\"" + username(userIndex()) + "\",\"password\":\"" + password(userIndex()) + "\"}";
+        }
+
+        URI uri(String path) {
+            return URI.create(baseUri + path);
+        }
+
+        /**
+         * Escolhe um destino: uma fração das escolhas (1 - hot-set) se concentra nos primeiros hot-set destinos,
+         * simulando destinos populares (ex: com hot-set 0,2, 80% dos acessos vão para 20% do catálogo).
+         */
+        long pickDestinationId() {
+            int hot = Math.max(1, (int) (destinationIds.length * config.hotSet));
+            boolean pickHot = random.nextDouble() >= config.hotSet;
+            return destinationIds[pickHot ? random.nextInt(hot) : random.nextInt(destinationIds.length)];
+        }
+
+        String pickSearchTerm() {
+            return SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        }
+
+        private int userIndex() {
+            return index % config.users;
+        }
+    }
+
+    /**
+     * Configuração do teste de carga, lida de propriedades de sistema com valores padrão.
+     */
+    static final class Config {
+        final int threads = Integer.getInteger("load.threads", 16);
+        final int durationSeconds = Integer.getInteger("load.duration-seconds", 30);
+        final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+        final double rate = Double.parseDouble(System.getProperty("load.rate", "0")); // Requisições/s no total (0 = modelo fechado)
+        final String auth = System.getProperty("load.auth", "basic"); // basic ou bearer
+        final int destinations = Integer.getInteger("load.destinations", 10_000);
+        final int users = Math.max(1, Integer.getInteger("load.users", 20));
+        final double hotSet = Double.parseDouble(System.getProperty("load.hot-set", "0.2"));
+        final int pageSize = Integer.getInteger("load.page-size", 50);
+        final long seed = Long.getLong("load.seed", 42L);
+        final String reportDir = System.getProperty("load.report-dir", "target/load");
+        final String[] appProperties; // Propriedades da aplicação, separadas por ";" (ex: "app.rating.write-behind.enabled=true")
+        private final LoadOperation[] operations; // Tabela de sorteio: cada operação repetida conforme o seu peso
+        private final String mix;
+
+        private Config() {
+            String app = System.getProperty("load.app-properties", "");
+            this.appProperties = app.isBlank() ? new String[0] : app.split(";");
+            this.mix = System.getProperty("load.mix", "list:25,get:35,search:15,rate:15,create:5,login:5");
+            List<LoadOperation> table = new ArrayList<>();
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.split(":");
+                LoadOperation operation = LoadOperation.fromKey(parts[0]);
+                int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+                for (int i = 0; i < weight; i++) {
+                    table.add(operation);
+                }
+            }
+            if (table.isEmpty()) {
+                throw new IllegalArgumentException("load.mix não tem nenhuma operação com peso positivo");
+            }
+            this.operations = table.toArray(new LoadOperation[0]);
+        }
+
+        static Config fromSystemProperties() {
+            return new Config();
+        }
+
+        LoadOperation pickOperation(Random random) {
+            return operations[random.nextInt(operations.length)];
+        }
+
+        @Override
+        public String toString() {
+            return "threads=" + threads + ", duração=" + durationSeconds + "s, aquecimento=" + warmupSeconds + "s, taxa="
+                    + (rate > 0 ? rate + "/s" : "fechada") + ", auth=" + auth + ", destinos=" + destinations
+                    + ", usuários=" + users + ", hot-set=" + hotSet + ", mix=" + mix + ", semente=" + seed
+                    + ", propriedades=" + Arrays.toString(appProperties);
+        }
+    }
+}
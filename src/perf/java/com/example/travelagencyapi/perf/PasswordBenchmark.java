@@ -0,0 +1,90 @@
+// src/perf/java/com/example/travelagencyapi/perf/PasswordBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.service.security.CachingAuthenticationProvider;
+import com.example.travelagencyapi.service.security.JwtTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verificação de senha com BCrypt comparada aos caminhos de autenticação da API:
+ * provedor DAO sem cache (HTTP Basic original), provedor com cache de credenciais e token de acesso.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "userpass";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private DaoAuthenticationProvider daoProvider;
+    private CachingAuthenticationProvider cachingProvider;
+    private JwtTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(); // Custo 10, o mínimo da calibração de SecurityConfig (fixo para comparar entre máquinas)
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        daoProvider = new DaoAuthenticationProvider();
+        daoProvider.setPasswordEncoder(passwordEncoder);
+        daoProvider.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(USERNAME).password(encodedPassword).roles("USER").build()));
+        cachingProvider = new CachingAuthenticationProvider(daoProvider, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        tokenService = new JwtTokenService(new ObjectMapper(), "", false, 900);
+        token = tokenService.issueToken(cachingProvider.authenticate(credentials()));
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public Authentication daoAuthentication() {
+        return daoProvider.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Authentication cachedAuthentication() {
+        return cachingProvider.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Optional<Authentication> tokenVerification() {
+        return tokenService.verify(token);
+    }
+
+    private static Authentication credentials() {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD);
+    }
+}
@@ -0,0 +1,39 @@
+// src/perf/java/com/example/travelagencyapi/perf/PerfContext.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+/**
+ * Inicia a aplicação completa para os benchmarks, sobre um banco H2 em memória exclusivo,
+ * para que os resultados possam ser reproduzidos sem PostgreSQL.
+ */
+public final class PerfContext {
+
+    private PerfContext() {
+    }
+
+    /**
+     * @param properties Propriedades adicionais no formato "chave=valor" (ex: para ativar a escrita adiada).
+     * @return O contexto iniciado; deve ser fechado ao final do benchmark.
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(TravelAgencyApiApplication.class)
+                .properties(
+                        "server.port=0", // Porta livre qualquer
+                        "spring.datasource.url=jdbc:h2:mem:perf-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false", // As migrações são escritas para o PostgreSQL
+                        "spring.jpa.show-sql=false",
+                        "app.search.engine=memory",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,58 @@
+// src/perf/java/com/example/travelagencyapi/perf/ProfileComparison.java
+package com.example.travelagencyapi.perf;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Executa o mesmo teste de carga com a configuração de desenvolvimento (SQL no console, logs síncronos)
+ * e com as configurações do perfil "prod" (application-prod.properties), e imprime vazão e percentis lado a lado.
+ *
+ * As propriedades do driver do PostgreSQL (spring.datasource.hikari.data-source-properties.*) não se aplicam
+ * ao H2 e ficam de fora, assim como a exigência do segredo de tokens (o teste de carga roda uma única instância, com segredo aleatório);
+ * as demais são lidas do próprio arquivo do perfil, então a comparação acompanha suas alterações.
+ * Com show-sql cada comando é escrito no stdout: redirecione a saída para um arquivo para medir sem o terminal.
+ */
+public final class ProfileComparison {
+
+    private static final String DRIVER_PROPERTIES = "spring.datasource.hikari.data-source-properties.";
+    private static final String REQUIRE_JWT_SECRET = "app.security.jwt.require-secret";
+
+    private ProfileComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest.Config config = LoadTest.Config.fromSystemProperties();
+
+        LoadTest.Result development = LoadTest.run(config, "development",
+                "spring.jpa.show-sql=true", "spring.jpa.properties.hibernate.format_sql=true", "logging.level.root=INFO");
+        LoadTest.Result production = LoadTest.run(config, "prod", productionProperties());
+
+        System.out.printf("%n%-12s %10s %7s %9s %9s %9s %9s%n", "Perfil", "Req/s", "Erros", "p50 ms", "p99 ms", "p99.9 ms", "Máx ms");
+        printRow("development", development);
+        printRow("prod", production);
+    }
+
+    private static String[] productionProperties() throws Exception {
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-prod.properties"));
+        List<String> result = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(DRIVER_PROPERTIES) && !name.equals(REQUIRE_JWT_SECRET)) {
+                result.add(name + "=" + properties.getProperty(name));
+            }
+        }
+        return result.toArray(String[]::new);
+    }
+
+    private static void printRow(String name, LoadTest.Result result) {
+        System.out.printf("%-12s %10.1f %7d %9.2f %9.2f %9.2f %9.2f%n", name, result.throughput(), result.errors,
+                result.latency.getValueAtPercentile(50) / 1000.0,
+                result.latency.getValueAtPercentile(99) / 1000.0,
+                result.latency.getValueAtPercentile(99.9) / 1000.0,
+                result.latency.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,103 @@
+// src/perf/java/com/example/travelagencyapi/perf/RatingBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.DestinationRepository;
+import com.example.travelagencyapi.service.DestinationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avaliações simultâneas de um mesmo destino, por três caminhos:
+ * read-modify-write (o caminho anterior: lê a entidade, recalcula a média em Java e grava a linha inteira),
+ * atomic-update (DestinationService.evaluateDestination com um UPDATE atômico por avaliação)
+ * e write-behind (DestinationService.evaluateDestination com a escrita adiada em lotes).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RatingBenchmark {
+
+    private static final String READ_MODIFY_WRITE = "read-modify-write";
+    private static final String WRITE_BEHIND = "write-behind";
+
+    @Param({READ_MODIFY_WRITE, "atomic-update", WRITE_BEHIND})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private DestinationService destinationService;
+    private DestinationRepository destinationRepository;
+    private Long destinationId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = PerfContext.start("app.rating.write-behind.enabled=" + WRITE_BEHIND.equals(path));
+        destinationService = context.getBean(DestinationService.class);
+        destinationRepository = context.getBean(DestinationRepository.class);
+        destinationId = destinationService.createDestination(
+                new Destination(null, "Fernando de Noronha", "Pernambuco, Brasil", "Arquipélago e mergulho.")).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Rater {
+        int next;
+
+        int rating() {
+            next = next % 10 + 1; // Notas de 1 a 10 em sequência
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Optional<Destination> evaluateHotDestination(Rater rater) {
+        if (READ_MODIFY_WRITE.equals(path)) {
+            return readModifyWrite(rater.rating());
+        }
+        return destinationService.evaluateDestination(destinationId, rater.rating());
+    }
+
+    /**
+     * O caminho de avaliação anterior ao UPDATE atômico, reproduzido sobre o repositório.
+     * Sem a coluna version as avaliações simultâneas se sobrescreviam sem erro; com ela o save falha
+     * e a avaliação é descartada. Nos dois casos a operação conta na vazão, mas a avaliação se perde.
+     */
+    private Optional<Destination> readModifyWrite(int rating) {
+        try {
+            return destinationRepository.findById(destinationId).map(destination -> {
+                int newNumberOfRatings = destination.getNumberOfRatings() + 1;
+                destination.setAverageRating(
+                        (destination.getAverageRating() * destination.getNumberOfRatings() + rating) / newNumberOfRatings);
+                destination.setNumberOfRatings(newNumberOfRatings);
+                return destinationRepository.save(destination);
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return Optional.empty();
+        }
+    }
+}
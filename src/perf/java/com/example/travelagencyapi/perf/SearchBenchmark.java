@@ -0,0 +1,71 @@
+// src/perf/java/com/example/travelagencyapi/perf/SearchBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationBulkService;
+import com.example.travelagencyapi.service.DestinationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pesquisa de destinos (índice invertido em memória + leitura da página no H2) sobre um catálogo gerado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] NAMES = {"Praia", "Serra", "Cachoeira", "Ilha", "Vale", "Lagoa", "Chapada", "Baía"};
+    private static final String[] PLACES = {"Rio de Janeiro", "Bahia", "Santa Catarina", "Minas Gerais", "Pernambuco", "Goiás"};
+    private static final String[] WORDS = {"trilhas", "mergulho", "gastronomia", "dunas", "surf", "história", "vinícolas"};
+
+    @Param({"10000"})
+    public int catalogueSize;
+
+    @Param({"praia", "rio jan", "cachoeira minas trilhas", "inexistente"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private DestinationService destinationService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = PerfContext.start();
+        destinationService = context.getBean(DestinationService.class);
+        List<Destination> catalogue = new ArrayList<>(catalogueSize);
+        for (int i = 0; i < catalogueSize; i++) {
+            catalogue.add(new Destination(null, NAMES[i % NAMES.length] + " " + i, PLACES[i % PLACES.length] + ", Brasil",
+                    WORDS[i % WORDS.length] + " e " + WORDS[(i / 7) % WORDS.length]));
+        }
+        context.getBean(DestinationBulkService.class).createDestinations(catalogue.iterator());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Destination> search() {
+        return destinationService.searchDestinations(query, 0, DestinationService.DEFAULT_PAGE_SIZE);
+    }
+}
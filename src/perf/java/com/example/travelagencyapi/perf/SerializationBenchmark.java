@@ -0,0 +1,77 @@
+// src/perf/java/com/example/travelagencyapi/perf/SerializationBenchmark.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.dto.DestinationView;
+import com.example.travelagencyapi.model.Destination;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON de List&lt;Destination&gt; em vários tamanhos de resposta,
+ * com um ObjectMapper configurado como o do Spring Boot (módulos de java.time incluídos).
+ * writeSparseList mede a mesma lista como projeção com fields=id,name,location,averageRating.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Destination> destinations;
+    private List<DestinationView> sparseViews;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        destinations = new ArrayList<>(size);
+        sparseViews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Destination destination = new Destination((long) i + 1, "Destino " + i, "Cidade " + (i % 100) + ", Brasil",
+                    "Descrição do destino " + i + " com praias, trilhas e gastronomia local.");
+            destination.setAverageRating(7.25);
+            destination.setNumberOfRatings(i);
+            destination.setUpdatedAt(Instant.now());
+            destinations.add(destination);
+
+            DestinationView view = new DestinationView();
+            view.setId(destination.getId());
+            view.setName(destination.getName());
+            view.setLocation(destination.getLocation());
+            view.setAverageRating(destination.getAverageRating());
+            sparseViews.add(view);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(destinations);
+    }
+
+    @Benchmark
+    public byte[] writeSparseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(sparseViews);
+    }
+}
@@ -0,0 +1,98 @@
+// src/perf/java/com/example/travelagencyapi/perf/SlowDatabase.java
+package com.example.travelagencyapi.perf;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula um banco de dados remoto sobre o H2 em memória: cada comando SQL e cada commit esperam
+ * perf.db-latency-ms milissegundos (uma ida e volta pela rede) com a conexão em uso.
+ * Usado para comparar modelos de threads quando as requisições passam a maior parte do tempo bloqueadas no JDBC.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "perf.db-latency-ms")
+public class SlowDatabase {
+
+    private static final Set<String> ROUND_TRIPS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch", "commit");
+
+    @Bean
+    static BeanPostProcessor slowDataSourcePostProcessor(@Value("${perf.db-latency-ms}") long latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (latencyMillis > 0 && bean instanceof DataSource dataSource && !(bean instanceof SlowDataSource)) {
+                    return new SlowDataSource(dataSource, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+                }
+                return bean;
+            }
+        };
+    }
+
+    static final class SlowDataSource extends DelegatingDataSource {
+        private final long latencyNanos;
+
+        SlowDataSource(DataSource target, long latencyNanos) {
+            super(target);
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return slow(super.getConnection(), Connection.class);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return slow(super.getConnection(username, password), Connection.class);
+        }
+
+        /**
+         * Envolve a conexão (ou os comandos criados por ela) em um proxy que espera antes de cada ida ao banco.
+         */
+        private <T> T slow(T target, Class<T> type) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (ROUND_TRIPS.contains(method.getName())) {
+                    TimeUnit.NANOSECONDS.sleep(latencyNanos);
+                }
+                Object result = invoke(target, method, args);
+                if (result instanceof CallableStatement statement) {
+                    return slow(statement, CallableStatement.class);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return slow(statement, PreparedStatement.class);
+                }
+                if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                    return slow(statement, Statement.class);
+                }
+                return result;
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
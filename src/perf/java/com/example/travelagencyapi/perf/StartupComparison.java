@@ -0,0 +1,146 @@
+// src/perf/java/com/example/travelagencyapi/perf/StartupComparison.java
+package com.example.travelagencyapi.perf;
+
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.example.travelagencyapi.service.security.JwtTokenService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Mede o tempo até a primeira requisição (time-to-first-request) com a inicialização padrão e com o perfil
+ * "fast-start" (application-fast-start.properties), cada execução em uma JVM nova, e imprime as medianas lado a lado.
+ *
+ * Cada JVM filha inicia a aplicação (perfil "dev", sobre H2) e envia GET /api/destinations com um token emitido
+ * localmente, sem BCrypt. São medidos, a partir do início da JVM: a aplicação pronta (run retornou) e a primeira
+ * resposta da API, que inclui os beans criados sob demanda pela inicialização preguiçosa.
+ *
+ * Propriedades de sistema: startup.runs (execuções por modo; padrão 5) e startup.jvm-args (argumentos extras
+ * das JVMs filhas, separados por ";", ex: "-XX:TieredStopAtLevel=1"). ddl-auto fica de fora do perfil,
+ * porque o H2 dos testes é criado pelo Hibernate. O ganho de AOT e CDS é medido com o jar do perfil Maven "fast-start" (ver README).
+ */
+public final class StartupComparison {
+
+    private static final String CHILD = "child";
+    private static final String RESULT_PREFIX = "STARTUP ";
+    private static final String DDL_AUTO = "spring.jpa.hibernate.ddl-auto";
+
+    private StartupComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && CHILD.equals(args[0])) {
+            runChild(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        int runs = Integer.getInteger("startup.runs", 5);
+        String jvmArgs = System.getProperty("startup.jvm-args", "");
+        long[][] standard = measure(runs, jvmArgs, "spring.profiles.active=dev");
+        long[][] fastStart = measure(runs, jvmArgs, with(fastStartProperties(), "spring.profiles.active=dev"));
+
+        System.out.printf("%n%-12s %14s %22s%n", "Modo", "Pronta (ms)", "1ª requisição (ms)");
+        printRow("padrão", standard);
+        printRow("fast-start", fastStart);
+    }
+
+    /**
+     * Executa a aplicação em JVMs novas e retorna, por execução, os tempos até a aplicação pronta e até a primeira resposta.
+     */
+    private static long[][] measure(int runs, String jvmArgs, String... properties) throws Exception {
+        long[][] results = new long[runs][];
+        for (int run = 0; run < runs; run++) {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            if (!jvmArgs.isBlank()) {
+                command.addAll(Arrays.asList(jvmArgs.split(";")));
+            }
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), StartupComparison.class.getName(), CHILD));
+            command.addAll(Arrays.asList(properties));
+
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = output.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        results[run] = Arrays.stream(line.substring(RESULT_PREFIX.length()).split(" "))
+                                .mapToLong(Long::parseLong).toArray();
+                    }
+                }
+            }
+            if (process.waitFor() != 0 || results[run] == null) {
+                throw new IllegalStateException("A execução " + run + " terminou sem resultado (código " + process.exitValue() + ")");
+            }
+            System.out.printf("execução %d %s: pronta em %d ms, 1ª requisição em %d ms%n",
+                    run, Arrays.toString(properties), results[run][0], results[run][1]);
+        }
+        return results;
+    }
+
+    /**
+     * Processo filho: inicia a aplicação, envia a primeira requisição e imprime os tempos desde o início da JVM.
+     */
+    private static void runChild(String[] properties) throws Exception {
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        try (ConfigurableApplicationContext context = PerfContext.start(properties)) {
+            long readyMillis = System.currentTimeMillis() - jvmStartMillis;
+
+            String token = context.getBean(JwtTokenService.class).issueToken(UsernamePasswordAuthenticationToken.authenticated(
+                    "startup", null, AuthorityRegistry.authoritiesFor(List.of("ROLE_USER"))));
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                            + context.getEnvironment().getProperty("local.server.port") + "/api/destinations?size=1"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+            long firstRequestMillis = System.currentTimeMillis() - jvmStartMillis;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Primeira requisição respondeu " + response.statusCode());
+            }
+            System.out.println(RESULT_PREFIX + readyMillis + " " + firstRequestMillis);
+        }
+        System.exit(0); // Threads não daemon (ex: pool do Tomcat) não atrasam a próxima execução
+    }
+
+    private static String[] fastStartProperties() throws Exception {
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-fast-start.properties"));
+        List<String> result = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.equals(DDL_AUTO)) {
+                result.add(name + "=" + properties.getProperty(name));
+            }
+        }
+        return result.toArray(String[]::new);
+    }
+
+    private static String[] with(String[] properties, String... extra) {
+        String[] result = Arrays.copyOf(properties, properties.length + extra.length);
+        System.arraycopy(extra, 0, result, properties.length, extra.length);
+        return result;
+    }
+
+    private static void printRow(String name, long[][] results) {
+        System.out.printf("%-12s %14d %22d%n", name, median(results, 0), median(results, 1));
+    }
+
+    private static long median(long[][] results, int column) {
+        long[] values = Arrays.stream(results).mapToLong(result -> result[column]).sorted().toArray();
+        return values[values.length / 2];
+    }
+}
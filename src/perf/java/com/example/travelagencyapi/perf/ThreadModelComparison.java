@@ -0,0 +1,54 @@
+// src/perf/java/com/example/travelagencyapi/perf/ThreadModelComparison.java
+package com.example.travelagencyapi.perf;
+
+/**
+ * Executa o mesmo teste de carga duas vezes, com o Tomcat em threads de plataforma e em threads virtuais,
+ * e imprime vazão e percentis lado a lado.
+ *
+ * Propriedades de sistema, além das de LoadTest:
+ * load.db-latency-ms (latência simulada por ida ao banco, ver SlowDatabase; padrão 5) e
+ * load.pool-size (conexões no pool Hikari em ambas as execuções; padrão 50).
+ *
+ * Threads virtuais exigem Java 21 (perfil Maven "java21"). Para localizar threads virtuais presas
+ * ao carregador (pinning), execute com -Djdk.tracePinnedThreads=short.
+ */
+public final class ThreadModelComparison {
+
+    private ThreadModelComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Runtime.version().feature() < 21) {
+            System.err.println("Java " + Runtime.version().feature()
+                    + ": spring.threads.virtual.enabled é ignorado e as duas execuções usarão threads de plataforma.");
+        }
+        LoadTest.Config config = LoadTest.Config.fromSystemProperties();
+        String dbLatency = "perf.db-latency-ms=" + Long.getLong("load.db-latency-ms", 5);
+        String poolSize = Integer.getInteger("load.pool-size", 50).toString();
+        String[] common = {dbLatency, "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize};
+
+        LoadTest.Result platform = LoadTest.run(config, "platform", with(common, "spring.threads.virtual.enabled=false"));
+        LoadTest.Result virtual = LoadTest.run(config, "virtual", with(common, "spring.threads.virtual.enabled=true",
+                "server.tomcat.max-connections=10000"));
+
+        System.out.printf("%n%-10s %10s %7s %9s %9s %9s %9s%n", "Threads", "Req/s", "Erros", "p50 ms", "p99 ms", "p99.9 ms", "Máx ms");
+        printRow("platform", platform);
+        printRow("virtual", virtual);
+    }
+
+    private static void printRow(String name, LoadTest.Result result) {
+        System.out.printf("%-10s %10.1f %7d %9.2f %9.2f %9.2f %9.2f%n", name, result.throughput(), result.errors,
+                result.latency.getValueAtPercentile(50) / 1000.0,
+                result.latency.getValueAtPercentile(99) / 1000.0,
+                result.latency.getValueAtPercentile(99.9) / 1000.0,
+                result.latency.getMaxValue() / 1000.0);
+    }
+
+    private static String[] with(String[] common, String... extra) {
+        String[] properties = new String[common.length + extra.length];
+        System.arraycopy(common, 0, properties, 0, common.length);
+        System.arraycopy(extra, 0, properties, common.length, extra.length);
+        return properties;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.travelagencyapi;
+
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.service.DestinationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa as migrações do Flyway em um PostgreSQL real e inicia a aplicação com ddl-auto=validate,
+ * sobre um banco novo e sobre um banco no formato anterior às migrações (criado pelo Hibernate com ddl-auto=update).
+ * Os demais testes usam H2 com o schema criado pelo Hibernate e não passam pelas migrações.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Schema gerado pelo Hibernate antes das migrações: id IDENTITY, sem destinations_seq, version e updated_at
+    private static final List<String> LEGACY_SCHEMA = List.of(
+            "CREATE TABLE destinations (id bigint GENERATED BY DEFAULT AS IDENTITY, average_rating float(53) NOT NULL, "
+                    + "description varchar(255), location varchar(255), name varchar(255), number_of_ratings integer NOT NULL, "
+                    + "PRIMARY KEY (id))",
+            "CREATE TABLE roles (id bigint GENERATED BY DEFAULT AS IDENTITY, name varchar(255) NOT NULL UNIQUE, PRIMARY KEY (id))",
+            "CREATE TABLE users (id bigint GENERATED BY DEFAULT AS IDENTITY, password varchar(255) NOT NULL, "
+                    + "username varchar(255) NOT NULL UNIQUE, PRIMARY KEY (id))",
+            "CREATE TABLE user_roles (user_id bigint NOT NULL REFERENCES users (id), role_id bigint NOT NULL REFERENCES roles (id), "
+                    + "PRIMARY KEY (user_id, role_id))",
+            "INSERT INTO destinations (name, location, description, average_rating, number_of_ratings) VALUES "
+                    + "('Gramado', 'Rio Grande do Sul, Brasil', 'Serra gaúcha.', 8.5, 2), "
+                    + "('Jericoacoara', 'Ceará, Brasil', 'Dunas e lagoas.', 9.0, 1)");
+
+    @Test
+    void migrationsCreateASchemaThatMatchesTheEntities() {
+        String url = createDatabase("fresh");
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            Destination created = context.getBean(DestinationService.class).createDestination(
+                    new Destination(null, "Paraty", "Rio de Janeiro, Brasil", "Centro histórico."));
+            assertNotNull(created.getId());
+        }
+    }
+
+    @Test
+    void migrationsUpgradeADatabaseCreatedBeforeThem() {
+        String url = createDatabase("legacy");
+        JdbcTemplate legacy = jdbcTemplate(url);
+        LEGACY_SCHEMA.forEach(legacy::execute);
+        long maxLegacyId = legacy.queryForObject("SELECT max(id) FROM destinations", Long.class);
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            DestinationService destinationService = context.getBean(DestinationService.class);
+            Destination existing = destinationService.getDestinationById(maxLegacyId).orElseThrow();
+            assertEquals(0L, existing.getVersion());
+            assertNotNull(existing.getUpdatedAt());
+
+            // Novos IDs vêm da sequência alinhada por V3, sem colidir com os IDs da antiga coluna IDENTITY
+            Destination created = destinationService.createDestination(
+                    new Destination(null, "Paraty", "Rio de Janeiro, Brasil", "Centro histórico."));
+            assertTrue(created.getId() > maxLegacyId);
+        }
+        assertEquals(1, legacy.queryForObject(
+                "SELECT count(*) FROM flyway_schema_history WHERE type = 'BASELINE' AND version = '1'", Integer.class));
+    }
+
+    private static String createDatabase(String name) {
+        jdbcTemplate(postgres.getJdbcUrl()).execute("CREATE DATABASE " + name);
+        return postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/" + name);
+    }
+
+    private static JdbcTemplate jdbcTemplate(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, postgres.getUsername(), postgres.getPassword()));
+    }
+
+    /**
+     * Inicia a aplicação sobre o banco informado com as configurações de schema do application.properties principal
+     * (o dos testes, que desativa o Flyway, o substitui no classpath).
+     */
+    private static ConfigurableApplicationContext start(String url) {
+        // Argumentos de linha de comando: têm precedência sobre o application.properties dos testes
+        return new SpringApplicationBuilder(TravelAgencyApiApplication.class).run(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.flyway.enabled=true",
+                "--spring.flyway.baseline-on-migrate=true",
+                "--spring.flyway.baseline-version=1",
+                "--spring.flyway.out-of-order=true",
+                "--server.port=0");
+    }
+}
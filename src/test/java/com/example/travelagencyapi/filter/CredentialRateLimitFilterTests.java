@@ -0,0 +1,63 @@
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class CredentialRateLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CredentialRateLimitFilter filter = new CredentialRateLimitFilter(properties(), meterRegistry);
+
+    @Test
+    void limitsCredentialAttemptsPerIp() throws Exception {
+        assertEquals(200, status("POST", "/api/auth/login", null, "10.0.0.1"));
+        assertEquals(200, status("GET", "/api/destinations", "Basic bWFyaWE6ZXJyYWRh", "10.0.0.1"));
+        // Rajada esgotada: a próxima tentativa do mesmo IP é recusada, com qualquer usuário no cabeçalho
+        MockHttpServletResponse rejected = response("GET", "/api/destinations", "basic am9hbzplcnJhZGE=", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(429, status("POST", "/api/auth/login", null, "10.0.0.1"));
+        assertEquals(2.0, meterRegistry.get("ratelimit.rejected").tag("route", "credentials").counter().count());
+
+        assertEquals(200, status("POST", "/api/auth/login", null, "10.0.0.2")); // Outro IP, outro balde
+    }
+
+    @Test
+    void ignoresRequestsWithoutCredentials() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, status("GET", "/api/destinations", null, "10.0.0.1"));
+            assertEquals(200, status("GET", "/api/destinations", "Bearer abc.def.ghi", "10.0.0.1"));
+            assertEquals(200, status("GET", "/actuator/health", "Basic bWFyaWE6ZXJyYWRh", "10.0.0.1"));
+        }
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getCredentials().setRequestsPerSecond(0.001); // Praticamente sem reposição durante o teste
+        properties.getCredentials().setBurst(2);
+        return properties;
+    }
+
+    private int status(String method, String uri, String authorization, String remoteAddr) throws Exception {
+        return response(method, uri, authorization, remoteAddr).getStatus();
+    }
+
+    private MockHttpServletResponse response(String method, String uri, String authorization, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
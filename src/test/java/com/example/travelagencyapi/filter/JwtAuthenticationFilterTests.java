@@ -0,0 +1,73 @@
+package com.example.travelagencyapi.filter;
+
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.example.travelagencyapi.service.security.JwtTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtAuthenticationFilterTests {
+
+    private final JwtTokenService tokenService = new JwtTokenService(new ObjectMapper(),
+            "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=", false, 900);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenService);
+    private final String token = tokenService.issueToken(UsernamePasswordAuthenticationToken.authenticated("maria", null,
+            AuthorityRegistry.authoritiesFor(List.of("ROLE_USER"))));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesBearerTokens() throws Exception {
+        assertEquals("maria", filterWithAuthorization("Bearer " + token).getName());
+    }
+
+    @Test
+    void ignoresRequestsWithoutABearerToken() throws Exception {
+        assertNull(filterWithAuthorization(null));
+        assertNull(filterWithAuthorization(token)); // Sem o prefixo
+        assertNull(filterWithAuthorization("bearer " + token));
+        assertNull(filterWithAuthorization("Basic bWFyaWE6c2VuaGE="));
+        assertNull(filterWithAuthorization("Bearer " + token + "x")); // Assinatura alterada
+        assertNull(filterWithAuthorization("Bearer "));
+    }
+
+    @Test
+    void keepsAnExistingAuthentication() throws Exception {
+        Authentication existing = UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                AuthorityRegistry.authoritiesFor(List.of("ROLE_ADMIN")));
+        SecurityContextHolder.getContext().setAuthentication(existing);
+
+        assertSame(existing, filterWithAuthorization("Bearer " + token));
+    }
+
+    /**
+     * Executa o filtro e devolve a autenticação resultante; a requisição sempre segue para o próximo filtro.
+     */
+    private Authentication filterWithAuthorization(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/destinations");
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.travelagencyapi.model.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserAuthoritiesTests {
+
+    @Test
+    void setsAreSharedAndHaveOnlyTheAssignedRoles() {
+        User admin = new User("admin", "senha");
+        admin.setRoles(Set.of(new Role("ROLE_ADMIN")));
+        User otherAdmin = new User("outro", "senha");
+        otherAdmin.setRoles(Set.of(new Role("ROLE_ADMIN")));
+
+        Collection<? extends GrantedAuthority> authorities = admin.getAuthorities();
+        assertEquals(List.of("ROLE_ADMIN"), authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(authorities, admin.getAuthorities()); // Nada é montado por chamada
+        assertSame(authorities, otherAdmin.getAuthorities());
+        assertSame(AuthorityRegistry.authority("ROLE_USER"), AuthorityRegistry.authority("ROLE_USER"));
+        assertThrows(UnsupportedOperationException.class, () -> admin.getAuthorities().clear());
+        assertThrows(UnsupportedOperationException.class, () -> admin.getRoles().add(new Role("ROLE_USER")));
+    }
+
+    @Test
+    void configuredHierarchyAddsImpliedRoles() {
+        AuthorityRegistry.configureHierarchy("ROLE_ADMIN>ROLE_USER");
+        try {
+            User admin = new User("admin", "senha");
+            admin.setRoles(Set.of(new Role("ROLE_ADMIN")));
+            assertEquals(Set.of("ROLE_ADMIN", "ROLE_USER"),
+                    Set.copyOf(admin.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList()));
+            assertEquals(admin.getAuthorities(), AuthorityRegistry.authoritiesFor(List.of("ROLE_ADMIN", "ROLE_USER")));
+        } finally {
+            AuthorityRegistry.configureHierarchy("");
+        }
+        assertThrows(IllegalArgumentException.class, () -> AuthorityRegistry.configureHierarchy("ROLE_ADMIN"));
+    }
+
+    @Test
+    void userWithoutRolesHasNoAuthorities() {
+        User user = new User("sem-papel", "senha");
+        assertEquals(0, user.getAuthorities().size());
+
+        user.setRoles(Set.of(new Role("ROLE_USER")));
+        assertEquals(List.of("ROLE_USER"), user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+}
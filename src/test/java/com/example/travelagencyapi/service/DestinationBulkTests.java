@@ -0,0 +1,81 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.dto.BulkItemResult;
+import com.example.travelagencyapi.model.Destination;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TravelAgencyApiApplication.class)
+class DestinationBulkTests {
+
+    private static final int DESTINATIONS = 1200; // Mais de dois blocos de app.bulk.chunk-size (500)
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Autowired
+    private DestinationBulkService destinationBulkService;
+
+    @Test
+    void bulkCreateReportsEachItemAndIsolatesInvalidOnes() {
+        List<Destination> destinations = new ArrayList<>(Arrays.asList(
+                new Destination(null, "Chapada Diamantina", "Bahia, Brasil", "Trilhas e cachoeiras."),
+                null, // Linha NDJSON inválida
+                new Destination(999_999L, "Bonito", "Mato Grosso do Sul, Brasil", "Rios de água cristalina.")));
+
+        List<BulkItemResult> results = destinationBulkService.createDestinations(destinations.iterator());
+
+        assertEquals(3, results.size());
+        assertEquals(201, results.get(0).getStatus());
+        assertEquals(400, results.get(1).getStatus());
+        assertEquals(201, results.get(2).getStatus());
+        assertTrue(destinationService.getDestinationById(results.get(2).getId()).isPresent());
+        assertNull(results.get(0).getError());
+    }
+
+    @Test
+    void bulkUpdateAndDeleteReportMissingIds() {
+        Long id = destinationService.createDestination(
+                new Destination(null, "Lençóis", "Maranhão, Brasil", "Dunas e lagoas.")).getId();
+
+        List<BulkItemResult> updated = destinationBulkService.updateDestinations(List.of(
+                new Destination(id, "Lençóis Maranhenses", "Maranhão, Brasil", "Dunas e lagoas de água doce."),
+                new Destination(-1L, "Inexistente", "", "")).iterator());
+        assertEquals(200, updated.get(0).getStatus());
+        assertEquals(404, updated.get(1).getStatus());
+        assertEquals("Lençóis Maranhenses", destinationService.getDestinationById(id).orElseThrow().getName());
+
+        List<BulkItemResult> deleted = destinationBulkService.deleteDestinations(List.of(id, -1L).iterator());
+        assertEquals(204, deleted.get(0).getStatus());
+        assertEquals(404, deleted.get(1).getStatus());
+        assertTrue(destinationService.getDestinationById(id).isEmpty());
+    }
+
+    @Test
+    void bulkCreateSpanningSeveralChunksCreatesEveryItem() {
+        List<Destination> destinations = new ArrayList<>(DESTINATIONS);
+        for (int i = 0; i < DESTINATIONS; i++) {
+            destinations.add(destination(i));
+        }
+
+        List<BulkItemResult> results = destinationBulkService.createDestinations(destinations.iterator());
+
+        assertEquals(DESTINATIONS, results.stream().filter(result -> result.getStatus() == 201).count());
+        assertEquals(DESTINATIONS, results.stream().map(BulkItemResult::getId).distinct().count());
+        assertTrue(destinationService.getDestinationById(results.get(DESTINATIONS - 1).getId()).isPresent());
+    }
+
+    private static Destination destination(int i) {
+        return new Destination(null, "Destino " + i, "Cidade " + (i % 100), "Descrição do destino " + i);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.model.Destination;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = TravelAgencyApiApplication.class)
+class DestinationRatingConcurrencyTests {
+
+    private static final int RATERS = 8;
+    private static final int RATINGS_PER_RATER = 250;
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Test
+    void concurrentRatingsOnHotDestinationAreAllCounted() throws Exception {
+        Long id = destinationService.createDestination(
+                new Destination(null, "Praia da Joaquina", "Florianópolis, Brasil", "Famosa pelas dunas e surf.")).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(RATERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> raters = new ArrayList<>();
+        for (int i = 0; i < RATERS; i++) {
+            raters.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < RATINGS_PER_RATER; j++) {
+                    destinationService.evaluateDestination(id, (j % 10) + 1); // Notas de 1 a 10, média 5,5
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> rater : raters) {
+            rater.get();
+        }
+        executor.shutdown();
+
+        int expectedRatings = RATERS * RATINGS_PER_RATER;
+        Destination rated = destinationService.getDestinationById(id).orElseThrow();
+        assertEquals(expectedRatings, rated.getNumberOfRatings());
+        assertEquals(5.5, rated.getAverageRating(), 1e-6);
+    }
+}
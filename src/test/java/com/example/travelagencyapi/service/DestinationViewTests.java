@@ -0,0 +1,64 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.dto.DestinationField;
+import com.example.travelagencyapi.dto.DestinationPage;
+import com.example.travelagencyapi.dto.DestinationView;
+import com.example.travelagencyapi.model.Destination;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = TravelAgencyApiApplication.class)
+class DestinationViewTests {
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Test
+    void parsesSparseFieldsets() {
+        assertEquals(EnumSet.allOf(DestinationField.class), DestinationField.parse(null));
+        assertEquals(EnumSet.of(DestinationField.ID, DestinationField.NAME, DestinationField.AVERAGE_RATING),
+                DestinationField.parse("name, AVERAGERATING"));
+        assertThrows(IllegalArgumentException.class, () -> DestinationField.parse("name,senha"));
+    }
+
+    @Test
+    void pageAndSearchReadOnlyRequestedFields() {
+        Destination created = destinationService.createDestination(
+                new Destination(null, "Alter do Chão", "Pará, Brasil", "Praias de rio no Tapajós."));
+        destinationService.evaluateDestination(created.getId(), 9);
+
+        DestinationView view = null;
+        String cursor = null;
+        do { // Outros testes compartilham o banco: percorre as páginas até o destino criado
+            DestinationPage<DestinationView> page = destinationService.getDestinationViewsPage(cursor, 500,
+                    DestinationField.parse("name,numberOfRatings"));
+            for (DestinationView item : page.getItems()) {
+                if (item.getId().equals(created.getId())) {
+                    view = item;
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (view == null && cursor != null);
+        assertNotNull(view);
+        assertEquals("Alter do Chão", view.getName());
+        assertEquals(1, view.getNumberOfRatings());
+        assertNull(view.getDescription());
+        assertNull(view.getAverageRating());
+
+        List<DestinationView> found = destinationService.searchDestinationViews("tapajos", 0, 10, DestinationField.parse("location"));
+        assertEquals(1, found.size());
+        assertEquals(created.getId(), found.get(0).getId());
+        assertEquals("Pará, Brasil", found.get(0).getLocation());
+        assertNull(found.get(0).getName());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EncodedResponseCacheTests {
+
+    private final EncodedResponseCache cache = new EncodedResponseCache(1 << 20, 60, new ObjectMapper(),
+            new ReadYourWrites("", 5), new SimpleMeterRegistry());
+
+    @Test
+    void negotiatesGzip() {
+        assertTrue(EncodedResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(EncodedResponseCache.acceptsGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(EncodedResponseCache.acceptsGzip("gzip;q=0, deflate"));
+        assertFalse(EncodedResponseCache.acceptsGzip("identity"));
+        assertFalse(EncodedResponseCache.acceptsGzip(null));
+    }
+
+    @Test
+    void servesCachedBytesInBothEncodings() throws IOException {
+        List<String> items = Collections.nCopies(200, "Praia do Forte, Bahia");
+        AtomicInteger encodes = new AtomicInteger();
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Next-Cursor", "abc");
+
+        for (int i = 0; i < 3; i++) {
+            cache.getOrEncode("list:v1", () -> {
+                encodes.incrementAndGet();
+                return cache.encode(items, headers);
+            });
+        }
+        assertEquals(1, encodes.get());
+
+        EncodedResponseCache.EncodedPayload payload = cache.getOrEncode("list:v1", () -> cache.encode(items, headers));
+        ResponseEntity<byte[]> identity = payload.toResponse(false);
+        ResponseEntity<byte[]> gzip = payload.toResponse(true);
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("abc", gzip.getHeaders().getFirst("X-Next-Cursor"));
+        assertTrue(gzip.getBody().length < identity.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(identity.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void doesNotKeepPayloadEncodedDuringInvalidation() {
+        AtomicInteger encodes = new AtomicInteger();
+        cache.getOrEncode("search:praia", () -> {
+            encodes.incrementAndGet();
+            cache.invalidateAll(); // Uma escrita acontece enquanto a resposta é montada
+            return cache.encode(List.of("antiga"), new HttpHeaders());
+        });
+        cache.getOrEncode("search:praia", () -> {
+            encodes.incrementAndGet();
+            return cache.encode(List.of("nova"), new HttpHeaders());
+        });
+        assertEquals(2, encodes.get());
+    }
+}
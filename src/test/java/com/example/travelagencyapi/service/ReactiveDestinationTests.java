@@ -0,0 +1,59 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.model.Destination;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TravelAgencyApiApplication.class)
+class ReactiveDestinationTests {
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Autowired
+    private ReactiveDestinationService reactiveDestinationService;
+
+    @Test
+    void readsWhatJpaWrote() {
+        Destination created = destinationService.createDestination(
+                new Destination(null, "Jericoacoara", "Ceará, Brasil", "Dunas, lagoas e kitesurf."));
+        destinationService.evaluateDestination(created.getId(), 8);
+
+        Destination read = reactiveDestinationService.getDestinationById(created.getId()).block();
+        assertEquals("Jericoacoara", read.getName());
+        assertEquals(1, read.getNumberOfRatings());
+        assertEquals(8.0, read.getAverageRating());
+        assertTrue(read.getUpdatedAt() != null);
+
+        assertNull(reactiveDestinationService.getDestinationById(-1L).block());
+    }
+
+    @Test
+    void streamsInIdOrderAndSearchesOnDemand() {
+        Long first = destinationService.createDestination(
+                new Destination(null, "Fernando de Noronha", "Pernambuco, Brasil", "Mergulho_100% transparente.")).getId();
+        Long second = destinationService.createDestination(
+                new Destination(null, "Ilha Grande", "Rio de Janeiro, Brasil", "Trilhas e praias.")).getId();
+
+        List<Long> ids = reactiveDestinationService.streamAllDestinations().map(Destination::getId).collectList().block();
+        assertTrue(ids.indexOf(first) >= 0 && ids.indexOf(first) < ids.indexOf(second));
+
+        // Apenas o primeiro item é lido, mesmo com o catálogo inteiro disponível
+        assertEquals(ids.get(0), reactiveDestinationService.streamAllDestinations().next().block().getId());
+
+        List<Destination> found = reactiveDestinationService.searchDestinations("NORONHA", 0, 10).collectList().block();
+        assertEquals(List.of(first), found.stream().map(Destination::getId).toList());
+        // Curingas do LIKE no termo são tratados como texto
+        assertEquals(List.of(first), reactiveDestinationService.searchDestinations("_100%", 0, 10)
+                .map(Destination::getId).collectList().block());
+        assertTrue(reactiveDestinationService.searchDestinations("   ", 0, 10).collectList().block().isEmpty());
+    }
+}
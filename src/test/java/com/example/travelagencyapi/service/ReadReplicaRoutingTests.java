@@ -0,0 +1,107 @@
+package com.example.travelagencyapi.service;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.filter.ReadYourWritesFilter;
+import com.example.travelagencyapi.model.Destination;
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Dois bancos H2 independentes fazem o papel de primário e réplica; a réplica recebe o schema da migração V1
+// e nunca é sincronizada, então cada leitura mostra de qual banco veio
+@SpringBootTest(classes = TravelAgencyApiApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:db/migration/V1__initial_schema.sql'",
+        "app.datasource.replica.read-your-writes-seconds=60"})
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    private DestinationService destinationService;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO destinations (id, name, location, description, "
+                + "average_rating, number_of_ratings) VALUES (900001, 'Somente na réplica', 'Réplica', '', 0, 0)");
+        assertEquals("Somente na réplica", destinationService.getDestinationById(900001L).orElseThrow().getName());
+
+        Long id = destinationService.createDestination(
+                new Destination(null, "Alter do Chão", "Pará, Brasil", "Praias de rio.")).getId();
+        assertEquals(1, count(primaryDataSource, id));
+        assertEquals(0, count(replicaDataSource, id));
+        assertTrue(destinationService.getDestinationById(id).isEmpty()); // Ainda não replicado
+
+        try (ReadYourWrites.Pin ignored = ReadYourWrites.pinToPrimary()) {
+            assertEquals("Alter do Chão", destinationService.getDestinationById(id).orElseThrow().getName());
+        }
+        assertFalse(ReadYourWrites.isPrimaryPinned());
+    }
+
+    @Test
+    void writerReadsFromPrimaryWithinWindow() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(readYourWrites);
+
+        authenticate("alice");
+        MockHttpServletResponse created = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/destinations"), created,
+                (request, response) -> ((MockHttpServletResponse) response).setStatus(201));
+
+        assertTrue(pinnedDuring("GET", "alice"));
+        assertFalse(pinnedDuring("GET", "bob"));
+
+        // Escritas rejeitadas não fixam o cliente
+        authenticate("bob");
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/destinations/1"), new MockHttpServletResponse(),
+                (request, response) -> ((MockHttpServletResponse) response).setStatus(404));
+        assertFalse(pinnedDuring("GET", "bob"));
+    }
+
+    private boolean pinnedDuring(String method, String username) throws Exception {
+        authenticate(username);
+        AtomicBoolean pinned = new AtomicBoolean();
+        new ReadYourWritesFilter(readYourWrites).doFilter(new MockHttpServletRequest(method, "/api/destinations"),
+                new MockHttpServletResponse(), (request, response) -> pinned.set(ReadYourWrites.isPrimaryPinned()));
+        return pinned.get();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static int count(DataSource dataSource, Long id) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM destinations WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.travelagencyapi.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitTests {
+
+    @Test
+    void burstIsAcceptedThenClientWaitsForSustainedRate() {
+        RateLimiter rateLimiter = new RateLimiter(100);
+        RateLimiter.Limit limit = new RateLimiter.Limit(1, 3); // 1 requisição/s, rajada de 3
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("search|user:alice", limit));
+        }
+        long waitNanos = rateLimiter.tryAcquire("search|user:alice", limit);
+        assertTrue(waitNanos > 0 && waitNanos <= TimeUnit.SECONDS.toNanos(1), String.valueOf(waitNanos));
+
+        // Outro cliente, ou outra rota do mesmo cliente, tem seu próprio balde
+        assertEquals(0, rateLimiter.tryAcquire("search|user:bob", limit));
+        assertEquals(0, rateLimiter.tryAcquire("default|user:alice", limit));
+        assertEquals(3, rateLimiter.getBucketCount());
+    }
+
+    @Test
+    void concurrencyLimitShrinksWhenSloIsBreached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire()); // Acima do limite: recusa na hora
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5)); // Acima do SLO (0 ms)
+        assertEquals(1, limiter.getLimit());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(1, limiter.getLimit()); // Nunca abaixo do mínimo
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void concurrencyLimitGrowsWhileWithinSlo() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 3, 1_000);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(0); // Metade do limite em uso e dentro do SLO
+        assertEquals(3, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.release(0);
+        assertEquals(3, limiter.getLimit()); // Limitado ao máximo
+    }
+}
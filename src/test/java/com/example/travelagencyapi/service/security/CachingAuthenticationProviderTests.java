@@ -0,0 +1,121 @@
+package com.example.travelagencyapi.service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingAuthenticationProviderTests {
+
+    private final Map<String, String> passwords = new ConcurrentHashMap<>(Map.of("maria", "senha"));
+    private final AtomicInteger verifications = new AtomicInteger();
+    private volatile CountDownLatch verifying; // Quando definido, a verificação espera por ele
+    private final CachingAuthenticationProvider provider = new CachingAuthenticationProvider(
+            new FakeProvider(), 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @Test
+    void cachesSuccessfulAuthenticationsOnly() {
+        Authentication first = provider.authenticate(credentials("maria", "senha"));
+        Authentication second = provider.authenticate(credentials("maria", "senha"));
+        assertEquals("maria", second.getName());
+        assertTrue(second.isAuthenticated());
+        assertNull(second.getCredentials()); // A senha nunca volta do cache
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertEquals(1, verifications.get());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(1, provider.getMissCount());
+
+        // Senha errada: sempre verificada, nunca guardada, e não apaga a entrada válida
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("maria", "errada")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("maria", "errada")));
+        assertEquals(3, verifications.get());
+        provider.authenticate(credentials("maria", "senha"));
+        assertEquals(3, verifications.get());
+        assertEquals(1, provider.getSize());
+    }
+
+    @Test
+    void evictForcesVerificationAfterPasswordChange() {
+        provider.authenticate(credentials("maria", "senha"));
+
+        passwords.put("maria", "nova");
+        provider.evict("maria");
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("maria", "senha")));
+        provider.authenticate(credentials("maria", "nova"));
+        provider.authenticate(credentials("maria", "nova"));
+        assertEquals(3, verifications.get());
+    }
+
+    @Test
+    void authenticationInFlightDuringEvictIsNotCached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        verifying = release;
+        CompletableFuture<Authentication> inFlight = CompletableFuture.supplyAsync(
+                () -> provider.authenticate(credentials("maria", "senha")));
+        while (verifications.get() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // A senha muda enquanto a verificação com a senha antiga ainda está em andamento
+        passwords.put("maria", "nova");
+        provider.evict("maria");
+        release.countDown();
+        assertEquals("maria", inFlight.get(5, TimeUnit.SECONDS).getName());
+        verifying = null;
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("maria", "senha")));
+        assertEquals(0, provider.getHitCount());
+    }
+
+    private static Authentication credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+
+    /**
+     * Provedor delegado com as senhas em memória (no lugar do DaoAuthenticationProvider com BCrypt).
+     */
+    private final class FakeProvider implements AuthenticationProvider {
+
+        @Override
+        public Authentication authenticate(Authentication authentication) {
+            verifications.incrementAndGet();
+            String expected = passwords.get(authentication.getName()); // Lida no início, como o usuário carregado
+            CountDownLatch latch = verifying;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (!authentication.getCredentials().equals(expected)) {
+                throw new BadCredentialsException("Credenciais inválidas");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(authentication.getName(), null,
+                    List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }
+
+        @Override
+        public boolean supports(Class<?> authentication) {
+            return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.travelagencyapi.service.security;
+
+import com.example.travelagencyapi.model.security.AuthorityRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenServiceTests {
+
+    private static final String SECRET = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="; // 32 bytes em Base64
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String HS256_HEADER = encode("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+
+    private final JwtTokenService tokenService = new JwtTokenService(new ObjectMapper(), SECRET, false, 900);
+
+    @Test
+    void verifiesTheTokensItIssues() {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated("maria", null,
+                AuthorityRegistry.authoritiesFor(List.of("ROLE_USER", "ROLE_ADMIN")));
+
+        Authentication verified = tokenService.verify(tokenService.issueToken(authentication)).orElseThrow();
+        assertEquals("maria", verified.getName());
+        assertTrue(verified.isAuthenticated());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"),
+                Set.copyOf(verified.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList()));
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        String[] parts = tokenService.issueToken(user("maria")).split("\\.");
+        String otherClaims = encode("{\"sub\":\"admin\",\"roles\":[\"ROLE_ADMIN\"],\"exp\":" + Long.MAX_VALUE / 2 + "}");
+
+        assertTrue(tokenService.verify(parts[0] + "." + otherClaims + "." + parts[2]).isEmpty()); // Claims trocadas
+        assertTrue(tokenService.verify(parts[0] + "." + parts[1] + "." + flipFirstChar(parts[2])).isEmpty());
+        // Assinado com outro segredo
+        JwtTokenService otherService = new JwtTokenService(new ObjectMapper(), "", false, 900);
+        assertTrue(tokenService.verify(otherService.issueToken(user("maria"))).isEmpty());
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        JwtTokenService expiring = new JwtTokenService(new ObjectMapper(), SECRET, false, -1);
+        assertTrue(tokenService.verify(expiring.issueToken(user("maria"))).isEmpty());
+
+        assertTrue(tokenService.verify(signed(HS256_HEADER, encode("{\"sub\":\"maria\"}"))).isEmpty()); // Sem exp
+    }
+
+    @Test
+    void rejectsOtherAlgorithms() {
+        String claims = encode("{\"sub\":\"maria\",\"roles\":[],\"exp\":" + Long.MAX_VALUE / 2 + "}");
+
+        assertTrue(tokenService.verify(encode("{\"alg\":\"none\",\"typ\":\"JWT\"}") + "." + claims + ".").isEmpty());
+        // Assinatura válida com o segredo, mas cabeçalho diferente do emitido
+        assertTrue(tokenService.verify(signed(encode("{\"alg\":\"HS512\",\"typ\":\"JWT\"}"), claims)).isEmpty());
+        assertTrue(tokenService.verify(signed(encode("{\"typ\":\"JWT\",\"alg\":\"HS256\"}"), claims)).isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertTrue(tokenService.verify("").isEmpty());
+        assertTrue(tokenService.verify("abc").isEmpty());
+        assertTrue(tokenService.verify(HS256_HEADER + ".a.b.c").isEmpty());
+        assertTrue(tokenService.verify(HS256_HEADER + ".e30.***").isEmpty()); // Assinatura fora do Base64
+        // Assinatura válida sobre claims que não são Base64 ou JSON
+        assertTrue(tokenService.verify(signed(HS256_HEADER, "***")).isEmpty());
+        assertTrue(tokenService.verify(signed(HS256_HEADER, encode("não é json"))).isEmpty());
+        assertTrue(tokenService.verify(signed(HS256_HEADER, encode("[1, 2]"))).isEmpty());
+    }
+
+    @Test
+    void rejectsShortOrMissingSecrets() {
+        assertThrows(IllegalStateException.class, () -> new JwtTokenService(new ObjectMapper(), "c2VncmVkbw==", false, 900));
+        assertThrows(IllegalStateException.class, () -> new JwtTokenService(new ObjectMapper(), "", true, 900));
+    }
+
+    private static Authentication user(String username) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null, AuthorityRegistry.authoritiesFor(List.of("ROLE_USER")));
+    }
+
+    private static String signed(String header, String claims) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256"));
+            String signingInput = header + "." + claims;
+            return signingInput + "." + BASE64_URL.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String flipFirstChar(String value) {
+        return (value.charAt(0) == 'A' ? "B" : "A") + value.substring(1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.travelagencyapi.service.security;
+
+import com.example.travelagencyapi.TravelAgencyApiApplication;
+import com.example.travelagencyapi.model.security.User;
+import com.example.travelagencyapi.repository.security.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Custo fixo baixo para manter o teste rápido; o hash legado usa outro custo e nenhum prefixo
+@SpringBootTest(classes = TravelAgencyApiApplication.class, properties = "app.security.password.bcrypt-strength=5")
+class PasswordRehashTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CachingAuthenticationProvider authenticationProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void legacyHashIsUpgradedOnLogin() {
+        userRepository.save(new User("legado", new BCryptPasswordEncoder(4).encode("segredo")));
+
+        authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("legado", "segredo"));
+
+        String stored = userRepository.findByUsername("legado").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2a$05$"), stored);
+        assertTrue(passwordEncoder.matches("segredo", stored));
+        assertFalse(passwordEncoder.upgradeEncoding(stored));
+    }
+
+    @Test
+    void upgradeFollowsConfiguredStrengthBothWays() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("senha")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("senha")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("senha")));
+        assertFalse(encoder.upgradeEncoding("não é bcrypt"));
+
+        // Custo calibrado: hashes de custos vizinhos, dentro da faixa, não são regravados
+        CalibratedBCryptPasswordEncoder calibrated = new CalibratedBCryptPasswordEncoder(5, 4, 5);
+        assertFalse(calibrated.upgradeEncoding(new BCryptPasswordEncoder(4).encode("senha")));
+        assertTrue(calibrated.upgradeEncoding(new BCryptPasswordEncoder(6).encode("senha")));
+
+        assertEquals(4, CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 6));
+        assertEquals(6, CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6)); // Limitado por maxStrength
+    }
+}
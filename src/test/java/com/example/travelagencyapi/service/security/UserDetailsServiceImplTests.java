@@ -0,0 +1,93 @@
+package com.example.travelagencyapi.service.security;
+
+import com.example.travelagencyapi.model.security.Role;
+import com.example.travelagencyapi.model.security.User;
+import com.example.travelagencyapi.repository.routing.ReadYourWrites;
+import com.example.travelagencyapi.repository.security.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDetailsServiceImplTests {
+
+    private static final int CALLERS = 8;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(
+            userRepository, 100, 300, new ReadYourWrites("", 5), new SimpleMeterRegistry());
+
+    @Test
+    void concurrentLoadsOfAMissingUserQueryTheDatabaseOnce() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.readByUsername("maria")).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS); // Consulta lenta: as demais chamadas chegam enquanto ela está em andamento
+            return Optional.of(user("maria"));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<UserDetails>> loads = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                loads.add(executor.submit(() -> userDetailsService.loadUserByUsername("maria")));
+            }
+            assertTrue(querying.await(5, TimeUnit.SECONDS));
+            // As outras chamadas encontram a carga em andamento no cache (contadas como acertos) e esperam por ela
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (userDetailsService.getCacheStats().hitCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            UserDetails first = loads.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<UserDetails> load : loads) {
+                assertSame(first, load.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userRepository, times(1)).readByUsername("maria");
+    }
+
+    @Test
+    void evictedUserIsReloadedFromTheDatabase() {
+        when(userRepository.readByUsername("maria"))
+                .thenReturn(Optional.of(user("maria")), Optional.of(user("maria")));
+
+        UserDetails cached = userDetailsService.loadUserByUsername("maria");
+        assertSame(cached, userDetailsService.loadUserByUsername("maria"));
+        verify(userRepository, times(1)).readByUsername("maria");
+
+        userDetailsService.evict("maria");
+        UserDetails reloaded = userDetailsService.loadUserByUsername("maria");
+        assertNotSame(cached, reloaded);
+        assertEquals("maria", reloaded.getUsername());
+        verify(userRepository, times(2)).readByUsername("maria");
+    }
+
+    private static User user(String username) {
+        User user = new User(username, "{bcrypt}hash");
+        user.setRoles(Set.of(new Role("ROLE_USER")));
+        return user;
+    }
+}